@@ -85,3 +85,28 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
 }
+
+// 쿠폰 발급 부하 테스트 하네스: ./gradlew loadTest -Dloadtest.mode=ASYNC -Dloadtest.concurrency=128
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
+dependencies {
+	"loadTestCompileOnly"("org.projectlombok:lombok:1.18.30")
+	"loadTestAnnotationProcessor"("org.projectlombok:lombok:1.18.30")
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "CouponFacade 발급 경로에 부하를 걸고 처리량, 지연 백분위, 초과/중복 발급을 보고한다."
+	classpath = loadTest.runtimeClasspath
+	mainClass = "kr.hhplus.be.server.loadtest.CouponIssueLoadTest"
+	systemProperty("user.timezone", "UTC")
+	System.getProperties().stringPropertyNames()
+		.filter { it.startsWith("loadtest.") || it.startsWith("coupon.") || it.startsWith("topic.") }
+		.forEach { systemProperty(it, System.getProperty(it)) }
+}
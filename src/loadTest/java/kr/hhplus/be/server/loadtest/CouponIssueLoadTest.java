@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.loadtest;
+
+import kr.hhplus.be.server.ServerApplication;
+import kr.hhplus.be.server.application.coupon.CouponFacade;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import kr.hhplus.be.server.domain.coupon.CouponIssuanceClosedException;
+import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CouponFacade.issue / issueAsync를 지정한 동시성으로 호출하고 처리량, 지연 백분위, 초과/중복 발급을 보고한다.
+ * <pre>
+ * ./gradlew loadTest -Dloadtest.mode=ASYNC -Dloadtest.users=20000 -Dloadtest.concurrency=128
+ * </pre>
+ * coupon.* / topic.* 프로퍼티도 그대로 넘어가므로 발급 모드나 샤드 수를 바꿔 가며 비교할 수 있다.
+ * 초과 발급, 중복 발급, 재고-저장 불일치 중 하나라도 있으면 종료 코드 1로 끝난다.
+ */
+public class CouponIssueLoadTest {
+
+    private static final long DRAIN_POLL_MILLIS = 200;
+    private static final long DRAIN_STABLE_MILLIS = 3000;
+
+    private final ConfigurableApplicationContext context;
+    private final LoadTestOptions options;
+
+    CouponIssueLoadTest(ConfigurableApplicationContext context, LoadTestOptions options) {
+        this.context = context;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        System.setProperty("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "warn");
+        System.setProperty("logging.level.org.springframework.transaction", "warn");
+
+        boolean passed;
+        try (LoadTestInfrastructure ignored = LoadTestInfrastructure.start(options);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class)
+                     .web(WebApplicationType.NONE)
+                     .run(args)) {
+            LoadTestReport report = new CouponIssueLoadTest(context, options).run();
+            report.print(System.out);
+            passed = report.passed();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        CouponService couponService = context.getBean(CouponService.class);
+
+        if (options.getWarmupRequests() > 0) {
+            Coupon warmup = couponService.create("부하테스트 워밍업", 10, 1000,
+                    LocalDateTime.now().plusDays(1), options.getWarmupRequests());
+            execute(warmup.getId(), options.getWarmupRequests(), 1,
+                    new LatencyRecorder(options.getWarmupRequests()), new ConcurrentHashMap<>());
+        }
+
+        Coupon coupon = couponService.create("부하테스트 쿠폰", 10, 1000,
+                LocalDateTime.now().plusDays(1), options.getLimitCount());
+        LatencyRecorder recorder = new LatencyRecorder(options.totalRequests());
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        long started = System.nanoTime();
+        execute(coupon.getId(), options.getUsers(), options.getAttemptsPerUser(), recorder, outcomes);
+        long elapsed = System.nanoTime() - started;
+
+        long drainStarted = System.nanoTime();
+        if (options.getMode() == LoadTestOptions.Mode.ASYNC) {
+            awaitDrained(coupon.getId());
+        }
+        long drain = System.nanoTime() - drainStarted;
+
+        long[] saved = countSaved(coupon.getId());
+        Map<String, Long> outcomeCounts = new TreeMap<>();
+        outcomes.forEach((name, count) -> outcomeCounts.put(name, count.sum()));
+
+        return LoadTestReport.builder()
+                .options(options)
+                .elapsedNanos(elapsed)
+                .drainNanos(drain)
+                .latency(recorder.snapshot())
+                .outcomes(outcomeCounts)
+                .savedCount(saved[0])
+                .distinctUsers(saved[1])
+                .redisRemaining(context.getBean(CouponInventoryReader.class).remaining(coupon.getId()))
+                .build();
+    }
+
+    // 사용자 1..users가 attempts번씩 요청한다. 같은 사용자의 재요청은 다른 사용자 요청 사이에 섞이도록 바깥 루프에 둔다.
+    private void execute(Long couponId, int users, int attempts, LatencyRecorder recorder,
+                         Map<String, LongAdder> outcomes) throws InterruptedException {
+        CouponFacade couponFacade = context.getBean(CouponFacade.class);
+        ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+        try {
+            for (int attempt = 0; attempt < attempts; attempt++) {
+                for (long userId = 1; userId <= users; userId++) {
+                    long requestUserId = userId;
+                    executor.submit(() -> {
+                        long begin = System.nanoTime();
+                        String outcome = call(couponFacade, couponId, requestUserId);
+                        recorder.record(System.nanoTime() - begin);
+                        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                    });
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+    }
+
+    private String call(CouponFacade couponFacade, Long couponId, Long userId) {
+        try {
+            if (options.getMode() == LoadTestOptions.Mode.ASYNC) {
+                couponFacade.issueAsync(couponId, userId);
+                return "ACCEPTED";
+            }
+            couponFacade.issue(userId, couponId);
+            return "ISSUED";
+        } catch (CouponSoldOutException e) {
+            return "SOLD_OUT";
+        } catch (DuplicateCouponIssueException e) {
+            return "DUPLICATE";
+        } catch (CouponIssuanceClosedException e) {
+            return "CLOSED";
+        } catch (RuntimeException e) {
+            return "ERROR:" + e.getClass().getSimpleName();
+        }
+    }
+
+    // 비동기 발급은 저장 건수가 일정 시간 변하지 않으면 컨슈머가 모두 처리한 것으로 본다.
+    private void awaitDrained(Long couponId) throws InterruptedException {
+        long expected = Math.min(options.getLimitCount(), options.getUsers());
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(options.getDrainTimeoutSeconds());
+        long last = -1;
+        long stableSince = System.currentTimeMillis();
+        while (System.currentTimeMillis() < deadline) {
+            long saved = countSaved(couponId)[0];
+            if (saved != last) {
+                last = saved;
+                stableSince = System.currentTimeMillis();
+            } else if (saved >= expected || System.currentTimeMillis() - stableSince >= DRAIN_STABLE_MILLIS) {
+                return;
+            }
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+    }
+
+    private long[] countSaved(Long couponId) {
+        return context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*), COUNT(DISTINCT user_id) FROM user_coupon WHERE coupon_id = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                couponId);
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 요청 수만큼 미리 잡은 배열에 나노초 지연을 기록하고, 끝난 뒤 정렬해 백분위를 구한다.
+public class LatencyRecorder {
+
+    private final long[] latencies;
+    private final AtomicInteger index = new AtomicInteger();
+
+    public LatencyRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    public void record(long nanos) {
+        int i = index.getAndIncrement();
+        if (i < latencies.length) {
+            latencies[i] = nanos;
+        }
+    }
+
+    public Snapshot snapshot() {
+        int count = Math.min(index.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted);
+    }
+
+    public static class Snapshot {
+        private final long[] sorted;
+
+        private Snapshot(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public int count() {
+            return sorted.length;
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(rank, sorted.length - 1))] / 1_000_000.0;
+        }
+
+        public double maxMillis() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.loadtest;
+
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+// CONTAINERS: MySQL/Redis는 Testcontainers, Kafka는 프로세스 안의 KRaft 브로커로 띄운다.
+// LOCAL: docker-compose로 띄운 로컬 환경(application.yml 기본값)을 그대로 쓴다.
+public class LoadTestInfrastructure implements AutoCloseable {
+
+    private static final String COUPON_ISSUED_TOPIC = "inside.coupon.v1.issued";
+
+    private MySQLContainer<?> mysql;
+    private GenericContainer<?> redis;
+    private EmbeddedKafkaKraftBroker kafka;
+
+    public static LoadTestInfrastructure start(LoadTestOptions options) {
+        LoadTestInfrastructure infra = new LoadTestInfrastructure();
+        if (options.getInfra() == LoadTestOptions.Infra.CONTAINERS) {
+            infra.startContainers(options);
+        }
+        System.setProperty("spring.datasource.hikari.maximum-pool-size", String.valueOf(options.getDbPoolSize()));
+        return infra;
+    }
+
+    private void startContainers(LoadTestOptions options) {
+        mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("hhplus")
+                .withUsername("test")
+                .withPassword("test");
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7.2"))
+                .withExposedPorts(6379);
+        mysql.start();
+        redis.start();
+
+        System.setProperty("spring.datasource.url", mysql.getJdbcUrl()
+                + "?characterEncoding=UTF-8&serverTimezone=UTC&rewriteBatchedStatements=true");
+        System.setProperty("spring.datasource.username", mysql.getUsername());
+        System.setProperty("spring.datasource.password", mysql.getPassword());
+        System.setProperty("spring.data.redis.host", redis.getHost());
+        System.setProperty("spring.data.redis.port", String.valueOf(redis.getMappedPort(6379)));
+
+        if (options.getMode() == LoadTestOptions.Mode.ASYNC) {
+            kafka = new EmbeddedKafkaKraftBroker(1, options.getTopicPartitions(), COUPON_ISSUED_TOPIC);
+            kafka.afterPropertiesSet();
+            System.setProperty("spring.kafka.bootstrap-servers", kafka.getBrokersAsString());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (kafka != null) {
+            kafka.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.loadtest;
+
+import lombok.Getter;
+
+// -Dloadtest.* 시스템 프로퍼티로 받는 부하 테스트 설정
+@Getter
+public class LoadTestOptions {
+
+    public enum Mode {
+        SYNC, ASYNC
+    }
+
+    public enum Infra {
+        CONTAINERS, LOCAL
+    }
+
+    private final Mode mode;
+    private final Infra infra;
+    private final int users;
+    private final int attemptsPerUser;
+    private final int concurrency;
+    private final int limitCount;
+    private final int warmupRequests;
+    private final int topicPartitions;
+    private final int dbPoolSize;
+    private final long drainTimeoutSeconds;
+
+    private LoadTestOptions(Mode mode, Infra infra, int users, int attemptsPerUser, int concurrency, int limitCount,
+                            int warmupRequests, int topicPartitions, int dbPoolSize, long drainTimeoutSeconds) {
+        if (users <= 0 || attemptsPerUser <= 0 || concurrency <= 0 || limitCount <= 0) {
+            throw new IllegalArgumentException("users, attempts-per-user, concurrency, limit-count는 1 이상이어야 합니다.");
+        }
+        this.mode = mode;
+        this.infra = infra;
+        this.users = users;
+        this.attemptsPerUser = attemptsPerUser;
+        this.concurrency = concurrency;
+        this.limitCount = limitCount;
+        this.warmupRequests = warmupRequests;
+        this.topicPartitions = topicPartitions;
+        this.dbPoolSize = dbPoolSize;
+        this.drainTimeoutSeconds = drainTimeoutSeconds;
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Mode.valueOf(property("mode", "SYNC").toUpperCase()),
+                Infra.valueOf(property("infra", "CONTAINERS").toUpperCase()),
+                Integer.parseInt(property("users", "10000")),
+                Integer.parseInt(property("attempts-per-user", "1")),
+                Integer.parseInt(property("concurrency", "64")),
+                Integer.parseInt(property("limit-count", "1000")),
+                Integer.parseInt(property("warmup", "500")),
+                Integer.parseInt(property("topic-partitions", "4")),
+                Integer.parseInt(property("db-pool-size", "20")),
+                Long.parseLong(property("drain-timeout-seconds", "120"))
+        );
+    }
+
+    public int totalRequests() {
+        return users * attemptsPerUser;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", infra=" + infra + ", users=" + users + ", attemptsPerUser=" + attemptsPerUser
+                + ", concurrency=" + concurrency + ", limitCount=" + limitCount;
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+@Getter
+@Builder
+public class LoadTestReport {
+    private final LoadTestOptions options;
+    private final long elapsedNanos;
+    private final long drainNanos;
+    private final LatencyRecorder.Snapshot latency;
+    private final Map<String, Long> outcomes;
+    private final long savedCount;
+    private final long distinctUsers;
+    private final int redisRemaining;
+
+    // 저장된 발급 건수가 발급 한도를 넘은 만큼
+    public long oversold() {
+        return Math.max(0, savedCount - options.getLimitCount());
+    }
+
+    // 같은 사용자에게 두 장 이상 저장된 만큼
+    public long duplicates() {
+        return savedCount - distinctUsers;
+    }
+
+    // Redis에서 차감된 수량과 DB에 저장된 건수의 차이
+    public long inventoryMismatch() {
+        return (options.getLimitCount() - redisRemaining) - savedCount;
+    }
+
+    public boolean passed() {
+        return oversold() == 0 && duplicates() == 0 && inventoryMismatch() == 0;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.println("==== 쿠폰 발급 부하 테스트 결과 ====");
+        out.println(options);
+        out.printf("요청 %d건, %.2fs, 처리량 %.1f req/s%n", latency.count(), seconds, latency.count() / seconds);
+        if (options.getMode() == LoadTestOptions.Mode.ASYNC) {
+            double drainSeconds = drainNanos / 1_000_000_000.0;
+            out.printf("컨슈머 처리 완료까지 %.2fs, 종단 처리량 %.1f req/s%n",
+                    seconds + drainSeconds, latency.count() / (seconds + drainSeconds));
+        }
+        out.printf("지연(ms) p50=%.2f p99=%.2f p999=%.2f max=%.2f%n",
+                latency.percentileMillis(50), latency.percentileMillis(99),
+                latency.percentileMillis(99.9), latency.maxMillis());
+        out.println("응답 결과 " + outcomes);
+        out.printf("저장 %d건, Redis 잔여 %d, 초과 발급 %d, 중복 발급 %d, 재고-저장 불일치 %d%n",
+                savedCount, redisRemaining, oversold(), duplicates(), inventoryMismatch());
+        out.println(passed() ? "PASS" : "FAIL");
+    }
+}
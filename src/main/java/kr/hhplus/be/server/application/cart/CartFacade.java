@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.application.cart;
+
+import kr.hhplus.be.server.application.order.OrderCommand;
+import kr.hhplus.be.server.application.order.OrderFacade;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.cart.CartItem;
+import kr.hhplus.be.server.domain.cart.CartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class CartFacade {
+
+    private final CartService cartService;
+    private final OrderFacade orderFacade;
+
+    public CartItem add(Long userId, Long productId, int quantity) {
+        return cartService.add(userId, productId, quantity);
+    }
+
+    public CartItem update(Long userId, Long productId, int quantity) {
+        return cartService.update(userId, productId, quantity);
+    }
+
+    public void remove(Long userId, Long productId) {
+        cartService.remove(userId, productId);
+    }
+
+    public List<CartItem> getCart(Long userId) {
+        return cartService.getItems(userId);
+    }
+
+    /**
+     * 장바구니 전체를 한 주문으로 만든다. 상품 확인과 가격은 주문 생성이 상품 스냅샷 한 번으로 처리하므로
+     * 장바구니에는 가격을 두지 않는다. 주문이 커밋된 뒤에 주문한 상품만 장바구니에서 뺀다.
+     */
+    public OrderResult.Create checkout(Long userId) {
+        List<CartItem> items = cartService.getItems(userId);
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("장바구니가 비어 있습니다.");
+        }
+        List<OrderCommand.Item> orderItems = items.stream()
+                .map(i -> new OrderCommand.Item(i.getProductId(), i.getQuantity(), 0))
+                .toList();
+        OrderResult.Create result = orderFacade.processOrder(new OrderCommand.Create(userId, orderItems));
+        cartService.removeAll(userId, items.stream().map(CartItem::getProductId).toList());
+        return result;
+    }
+}
@@ -2,14 +2,22 @@ package kr.hhplus.be.server.application.coupon;
 
 import jakarta.transaction.Transactional;
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponIssueStatusStore;
 import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutRegistry;
+import kr.hhplus.be.server.domain.coupon.CouponWaitingQueue;
+import kr.hhplus.be.server.domain.coupon.CouponWaitingRequiredException;
+import kr.hhplus.be.server.domain.coupon.IssuedUserTracking;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.WaitingTicket;
 import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
 import kr.hhplus.be.server.domain.coupon.event.CouponIssuedProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -17,25 +25,62 @@ public class CouponFacade {
 
     private final CouponService couponService;
     private final CouponIssuedProducer couponIssuedProducer;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final CouponWaitingQueue couponWaitingQueue;
+    private final CouponIssueStatusStore couponIssueStatusStore;
 
     public UserCoupon issue(Long userId, Long couponId) {
-
-         return couponService.issue(userId, couponId);
+        checkNotWaiting(couponId);
+        return couponService.issue(userId, couponId);
     }
 
     public void issueAsync( Long couponId, Long userId) {
+        couponSoldOutRegistry.checkIssuable(couponId);
+        checkNotWaiting(couponId);
         CouponIssuedMessage couponIssuedMessage = new CouponIssuedMessage(couponId,userId);
         couponIssuedProducer.send(couponIssuedMessage);
     }
 
+    // 대기열에서 입장한 사용자는 이미 순번을 거쳤으므로 대기열 확인 없이 발급 요청을 넘긴다.
+    public void issueAdmitted(Long couponId, Long userId) {
+        couponSoldOutRegistry.checkIssuable(couponId);
+        couponIssuedProducer.send(new CouponIssuedMessage(couponId, userId));
+    }
+
+    // 대기열이 열린 쿠폰은 직접 발급을 막아 순번을 건너뛰지 못하게 한다.
+    private void checkNotWaiting(Long couponId) {
+        if (couponWaitingQueue.isActive(couponId)) {
+            throw new CouponWaitingRequiredException("대기열을 운영 중인 쿠폰입니다. 대기열로 진입해주세요.");
+        }
+    }
+
+    public Optional<CouponIssueResult> getIssueStatus(Long couponId, Long userId) {
+        return couponIssueStatusStore.find(couponId, userId);
+    }
+
+    public WaitingTicket enterWaitingRoom(Long couponId, Long userId) {
+        couponSoldOutRegistry.checkIssuable(couponId);
+        return couponWaitingQueue.enter(couponId, userId);
+    }
+
+    public WaitingTicket getWaitingTicket(Long couponId, Long userId, String token) {
+        return couponWaitingQueue.status(couponId, userId, token);
+    }
+
+    // 정책은 노드 로컬 캐시에서, 잔여 수량은 Redis 재고에서 읽어 MySQL을 거치지 않는다.
+    public CouponInfo getCoupon(Long couponId) {
+        return new CouponInfo(couponService.getPolicy(couponId),
+                couponService.getIssueLimit(couponId), couponService.getRemainingCount(couponId));
+    }
+
     @Transactional
     public Coupon getCouponOrThrow(Long couponId) {
 
         return couponService.getCouponOrThrow(couponId);
     }
 
-    public void create(String name, int discountRate,
-                       int maxDiscountAmount, LocalDateTime expirationAt, int limitCount) {
-        couponService.create(name, discountRate, maxDiscountAmount, expirationAt, limitCount);
+    public void create(String name, int discountRate, int maxDiscountAmount, LocalDateTime expirationAt,
+                       int limitCount, IssuedUserTracking issuedUserTracking) {
+        couponService.create(name, discountRate, maxDiscountAmount, expirationAt, limitCount, issuedUserTracking);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponPolicy;
+import kr.hhplus.be.server.domain.coupon.CouponStatus;
+import lombok.Getter;
+
+// 노드 로컬 정책 스냅샷과 Redis 재고의 발급 한도, 실시간 잔여 수량을 합친 조회 결과
+@Getter
+public class CouponInfo {
+    private final CouponPolicy policy;
+    private final int limitCount;
+    private final int remainingCount;
+
+    public CouponInfo(CouponPolicy policy, int limitCount, int remainingCount) {
+        this.policy = policy;
+        this.limitCount = limitCount;
+        this.remainingCount = remainingCount;
+    }
+
+    public int getIssuedCount() {
+        return Math.max(limitCount - remainingCount, 0);
+    }
+
+    // 상태는 정책의 만료 여부만 따른다. 매진은 remainingCount로 드러나며 만료로 표시하지 않는다.
+    public CouponStatus getStatus() {
+        return policy.isExpired() ? CouponStatus.EXPIRED : CouponStatus.ACTIVE;
+    }
+}
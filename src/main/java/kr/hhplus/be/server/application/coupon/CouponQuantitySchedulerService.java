@@ -1,40 +1,44 @@
 package kr.hhplus.be.server.application.coupon;
 
-import kr.hhplus.be.server.domain.coupon.Coupon;
-import kr.hhplus.be.server.domain.coupon.CouponRepository;
-import kr.hhplus.be.server.domain.coupon.CouponService;
-import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.domain.coupon.CouponBulkRepository;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CouponQuantitySchedulerService {
-    private final StringRedisTemplate redisTemplate;
-    private final CouponRepository couponRepository;
-    private final CouponService couponService;
+    private final CouponInventoryReader couponInventoryReader;
+    private final CouponBulkRepository couponBulkRepository;
+    private final int batchSize;
 
+    public CouponQuantitySchedulerService(CouponInventoryReader couponInventoryReader,
+                                          CouponBulkRepository couponBulkRepository,
+                                          @Value("${coupon.quantity-sync.batch-size:1000}") int batchSize) {
+        this.couponInventoryReader = couponInventoryReader;
+        this.couponBulkRepository = couponBulkRepository;
+        this.batchSize = batchSize;
+    }
+
+    // 직전 실행 이후 재고가 바뀐 쿠폰만 batchSize 단위로 꺼내, 남은 수량 조회 1회와 배치 UPDATE 1회로 반영한다.
     @Scheduled(cron = "0/30 * * * * *")
-    @Transactional
     public void syncCouponRemainingQuantity() {
-        List<Coupon> allCoupons = couponRepository.findActiveCoupons();
-
-
-        for (Coupon coupon : allCoupons) {
-            int limitCount = coupon.getLimitCount();
-            String listKey = String.format("coupon:%d:inventory", coupon.getId());
-            int remaining = Math.toIntExact(redisTemplate.opsForList().size(listKey));
-            if (remaining == limitCount) {
-                continue;
+        Set<Long> changed;
+        while (!(changed = couponInventoryReader.popChangedCouponIds(batchSize)).isEmpty()) {
+            try {
+                Map<Long, Integer> remaining = couponInventoryReader.remainingAll(changed);
+                int updated = couponBulkRepository.updateLimitCounts(remaining);
+                log.debug("쿠폰 잔여 수량 동기화: changed={}, updated={}", changed.size(), updated);
+            } catch (RuntimeException e) {
+                // 꺼낸 쿠폰을 되돌려 다음 실행에서 다시 반영한다.
+                couponInventoryReader.markChanged(changed);
+                throw e;
             }
-            couponService.updateLimitCount(coupon.getId(), remaining);
         }
     }
 }
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.application.coupon;
+
+import lombok.Getter;
+
+@Getter
+public class CouponReconciliationReport {
+    private final Long couponId;
+    private long scannedRedis;
+    private long scannedDb;
+    private long redisOnly;
+    private long dbOnly;
+    private long repaired;
+
+    public CouponReconciliationReport(Long couponId) {
+        this.couponId = couponId;
+    }
+
+    void addScannedRedis(int count) {
+        scannedRedis += count;
+    }
+
+    void addScannedDb(int count) {
+        scannedDb += count;
+    }
+
+    void addRedisOnly(int count) {
+        redisOnly += count;
+    }
+
+    void addDbOnly(int count) {
+        dbOnly += count;
+    }
+
+    void addRepaired(int count) {
+        repaired += count;
+    }
+}
@@ -0,0 +1,219 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponReconciliationCandidateStore;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 발급 이력과 user_coupon을 양쪽 모두 chunkSize 단위로 훑어 어긋난 사용자를 찾는다.
+ * <ul>
+ *     <li>Redis에만 있음: 재고를 차감했지만 저장되지 않은 발급 → 재고 복구(RELEASE)</li>
+ *     <li>DB에만 있음: 저장됐지만 발급 이력이 없는 쿠폰 → 발급 이력 기록과 재고 차감(MARK_ISSUED)</li>
+ * </ul>
+ * 여러 노드 중 잠금을 잡은 한 노드만 실행한다. Redis에만 있는 사용자는 처음 발견된 뒤 releaseGrace가 지나도록
+ * 저장되지 않았을 때만 되돌려, 컨슈머 지연으로 아직 저장 중인 발급을 복구하지 않는다.
+ */
+@Slf4j
+@Service
+public class CouponReconciliationService {
+
+    private static final String LOCK_KEY = "LOCK:coupon:reconciliation";
+
+    private final CouponInventoryReader couponInventoryReader;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponRepository couponRepository;
+    private final CouponReconciliationCandidateStore candidateStore;
+    private final LockService lockService;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxRepairs;
+    private final boolean repair;
+    private final Duration releaseGrace;
+    private final long leaseSeconds;
+
+    public CouponReconciliationService(CouponInventoryReader couponInventoryReader,
+                                       UserCouponRepository userCouponRepository,
+                                       CouponRepository couponRepository,
+                                       CouponReconciliationCandidateStore candidateStore,
+                                       LockService lockService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${coupon.reconciliation.chunk-size:1000}") int chunkSize,
+                                       @Value("${coupon.reconciliation.max-repairs:10000}") int maxRepairs,
+                                       @Value("${coupon.reconciliation.repair:false}") boolean repair,
+                                       @Value("${coupon.reconciliation.release-grace-seconds:600}") long releaseGraceSeconds,
+                                       @Value("${coupon.reconciliation.lease-seconds:600}") long leaseSeconds) {
+        this.couponInventoryReader = couponInventoryReader;
+        this.userCouponRepository = userCouponRepository;
+        this.couponRepository = couponRepository;
+        this.candidateStore = candidateStore;
+        this.lockService = lockService;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxRepairs = maxRepairs;
+        this.repair = repair;
+        this.releaseGrace = Duration.ofSeconds(releaseGraceSeconds);
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    // 여러 노드 중 잠금을 잡은 한 노드만 실행한다. 잡지 못한 노드는 이번 주기를 건너뛴다.
+    @Scheduled(cron = "${coupon.reconciliation.cron:0 0/10 * * * *}")
+    public void reconcileActiveCoupons() {
+        try {
+            lockService.executeWithLock(LOCK_KEY, 0, leaseSeconds, TimeUnit.SECONDS, () -> {
+                reconcileAll();
+                return null;
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("다른 노드가 쿠폰 정합성 점검을 실행 중입니다.");
+        }
+    }
+
+    // 만료된 쿠폰은 Redis 키도 만료돼 점검할 대상이 없으므로 만료 전 쿠폰만 훑는다.
+    private void reconcileAll() {
+        for (Coupon coupon : couponRepository.findActiveCouponsExpiringAfter(LocalDateTime.now())) {
+            try {
+                CouponReconciliationReport report = reconcile(coupon.getId());
+                if (report.getRedisOnly() > 0 || report.getDbOnly() > 0) {
+                    log.warn("쿠폰 정합성 불일치: couponId={}, redisOnly={}, dbOnly={}, repaired={}",
+                            report.getCouponId(), report.getRedisOnly(), report.getDbOnly(), report.getRepaired());
+                }
+            } catch (RuntimeException e) {
+                log.error("쿠폰 정합성 점검 실패: couponId={}", coupon.getId(), e);
+            }
+        }
+    }
+
+    public CouponReconciliationReport reconcile(Long couponId) {
+        CouponReconciliationReport report = new CouponReconciliationReport(couponId);
+        // 재고 키가 없으면(만료, 미초기화) 모든 저장 건이 DB에만 있는 것으로 보이므로 판정도 복구도 하지 않는다.
+        if (!couponInventoryReader.hasInventory(couponId)) {
+            log.debug("쿠폰 재고 키가 없어 정합성 점검을 건너뜁니다: couponId={}", couponId);
+            return report;
+        }
+
+        // 1) Redis → DB: SSCAN 조각마다 IN 조회로 저장 여부를 확인한다.
+        List<Long> redisOnly = new ArrayList<>();
+        couponInventoryReader.scanIssuedUsers(couponId, chunkSize, userIds -> {
+            report.addScannedRedis(userIds.size());
+            scanned("redis", userIds.size());
+            Set<Long> saved = new HashSet<>(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds));
+            List<Long> missing = userIds.stream().filter(userId -> !saved.contains(userId)).toList();
+            report.addRedisOnly(missing.size());
+            count("redis_only", missing.size());
+            missing.stream().limit(Math.max(maxRepairs - redisOnly.size(), 0)).forEach(redisOnly::add);
+        });
+
+        // 2) DB → Redis: userId 기준 키셋 페이지마다 파이프라인으로 발급 이력을 확인한다.
+        long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = userCouponRepository.findUserIdsByCouponIdAfter(
+                    couponId, lastUserId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            report.addScannedDb(userIds.size());
+            scanned("db", userIds.size());
+            Set<Long> issued = couponInventoryReader.findIssued(couponId, userIds);
+            List<Long> missing = userIds.stream().filter(userId -> !issued.contains(userId)).toList();
+            report.addDbOnly(missing.size());
+            count("db_only", missing.size());
+            missing.forEach(userId -> logRepair(RepairAction.MARK_ISSUED, couponId, userId));
+            if (repair) {
+                report.addRepaired(markIssued(couponId, missing));
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        // 발급 직후 저장 중인 요청을 잘못 복구하지 않도록, DB 전체를 훑은 뒤 후보를 한 번 더 확인한다.
+        List<Long> unsaved = redisOnly;
+        if (!redisOnly.isEmpty()) {
+            Set<Long> savedSince = new HashSet<>(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, redisOnly));
+            unsaved = redisOnly.stream().filter(userId -> !savedSince.contains(userId)).toList();
+        }
+        // 후보가 없어도 호출해 지난 점검의 발견 기록을 정리한다.
+        // 처음 발견된 지 유예 시간이 지나지 않은 후보는 컨슈머가 아직 저장 중일 수 있으므로 다음 점검으로 미룬다.
+        Set<Long> settled = candidateStore.retainOlderThan(couponId, unsaved, releaseGrace);
+        if (settled.size() < unsaved.size()) {
+            log.debug("쿠폰 정합성 복구 유예: couponId={}, deferred={}", couponId, unsaved.size() - settled.size());
+        }
+        unsaved.stream()
+                .filter(settled::contains)
+                .forEach(userId -> {
+                    logRepair(RepairAction.RELEASE, couponId, userId);
+                    if (repair) {
+                        couponInventoryReader.release(couponId, userId);
+                        report.addRepaired(1);
+                        repaired("redis_only", 1);
+                    }
+                });
+        return report;
+    }
+
+    private int markIssued(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        List<CouponIssuedMessage> messages = userIds.stream()
+                .map(userId -> new CouponIssuedMessage(couponId, userId))
+                .toList();
+        List<CouponIssueResult> results = couponInventoryReader.issueAll(messages);
+        int marked = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isIssued() || results.get(i) == CouponIssueResult.DUPLICATE) {
+                marked++;
+            } else {
+                log.warn("쿠폰 정합성 복구 불가: couponId={}, userId={}, result={}",
+                        couponId, userIds.get(i), results.get(i));
+            }
+        }
+        repaired("db_only", marked);
+        return marked;
+    }
+
+    private void logRepair(RepairAction action, Long couponId, Long userId) {
+        log.info("쿠폰 정합성 복구 대상: action={}, couponId={}, userId={}, apply={}", action, couponId, userId, repair);
+    }
+
+    private void scanned(String source, int amount) {
+        meterRegistry.counter("coupon.reconciliation.scanned", "source", source).increment(amount);
+    }
+
+    private void count(String type, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("coupon.reconciliation.mismatch", "type", type).increment(amount);
+        }
+    }
+
+    private void repaired(String type, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("coupon.reconciliation.repaired", "type", type).increment(amount);
+        }
+    }
+
+    public enum RepairAction {
+        RELEASE, MARK_ISSUED
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.coupon.CouponIssuanceClosedException;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.CouponWaitingQueue;
+import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
+import kr.hhplus.be.server.domain.coupon.WaitingEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class CouponWaitingRoomScheduler {
+
+    private final CouponWaitingQueue couponWaitingQueue;
+    private final CouponFacade couponFacade;
+    private final int admitPerSecond;
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter admittedCounter;
+
+    public CouponWaitingRoomScheduler(CouponWaitingQueue couponWaitingQueue,
+                                      CouponFacade couponFacade,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${coupon.waiting-room.admit-per-second:100}") int admitPerSecond) {
+        this.couponWaitingQueue = couponWaitingQueue;
+        this.couponFacade = couponFacade;
+        this.admitPerSecond = admitPerSecond;
+        meterRegistry.gauge("coupon.waiting.depth", depth);
+        this.admittedCounter = Counter.builder("coupon.waiting.admitted")
+                .description("대기열에서 발급 경로로 입장시킨 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /** 매초 쿠폰별로 대기열 앞쪽 사용자를 정해진 인원만큼 기존 비동기 발급 경로로 넘긴다. */
+    @Scheduled(fixedRate = 1000)
+    public void admit() {
+        long remaining = 0;
+        for (Long couponId : couponWaitingQueue.activeCouponIds()) {
+            List<WaitingEntry> entries = couponWaitingQueue.admit(couponId, admitPerSecond);
+            int admitted = 0;
+            for (; admitted < entries.size(); admitted++) {
+                Long userId = entries.get(admitted).getUserId();
+                try {
+                    couponFacade.issueAdmitted(couponId, userId);
+                } catch (CouponSoldOutException | CouponIssuanceClosedException | DuplicateCouponIssueException e) {
+                    // 발급 결과가 이미 정해졌으므로 다시 줄 세우지 않는다.
+                    log.warn("대기열 입장 후 발급 요청 거절: couponId={}, userId={}, reason={}",
+                            couponId, userId, e.getMessage());
+                } catch (RuntimeException e) {
+                    // 꺼냈지만 발급 요청을 넘기지 못한 사용자는 원래 순번으로 되돌리고 다음 주기에 다시 입장시킨다.
+                    List<WaitingEntry> unpublished = entries.subList(admitted, entries.size());
+                    log.error("대기열 입장 후 발급 요청 실패, 대기열로 되돌림: couponId={}, requeued={}",
+                            couponId, unpublished.size(), e);
+                    couponWaitingQueue.requeue(couponId, unpublished);
+                    break;
+                }
+            }
+            admittedCounter.increment(admitted);
+            remaining += couponWaitingQueue.depth(couponId);
+        }
+        depth.set(remaining);
+    }
+}
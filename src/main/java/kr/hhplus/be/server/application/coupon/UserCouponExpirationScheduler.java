@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCouponBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class UserCouponExpirationScheduler {
+    private final CouponRepository couponRepository;
+    private final UserCouponBulkRepository userCouponBulkRepository;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    public UserCouponExpirationScheduler(CouponRepository couponRepository,
+                                         UserCouponBulkRepository userCouponBulkRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${coupon.expiration.chunk-size:500}") int chunkSize) {
+        this.couponRepository = couponRepository;
+        this.userCouponBulkRepository = userCouponBulkRepository;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+    }
+
+    // 만료일이 지난 쿠폰마다 ISSUED 상태의 사용자 쿠폰을 id 순 chunkSize 조각으로 나눠 EXPIRED로 바꾼다.
+    // 이미 정리된 쿠폰은 (coupon_id, status) 인덱스에서 빈 결과로 바로 끝난다.
+    @Scheduled(cron = "${coupon.expiration.cron:0 5 * * * *}")
+    public void expireUserCoupons() {
+        long expired = 0;
+        for (Long couponId : couponRepository.findExpiredCouponIds(LocalDateTime.now())) {
+            try {
+                expired += expire(couponId);
+            } catch (RuntimeException e) {
+                log.error("사용자 쿠폰 만료 처리 실패: couponId={}", couponId, e);
+            }
+        }
+        if (expired > 0) {
+            log.info("사용자 쿠폰 만료 처리: expired={}", expired);
+        }
+    }
+
+    public long expire(Long couponId) {
+        long expired = 0;
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = userCouponBulkRepository.findIssuedIdsByCouponId(couponId, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            int updated = userCouponBulkRepository.expireAll(ids);
+            meterRegistry.counter("coupon.user-coupon.expired").increment(updated);
+            expired += updated;
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == chunkSize);
+        return expired;
+    }
+}
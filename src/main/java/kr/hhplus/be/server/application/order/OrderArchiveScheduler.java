@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.OrderPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * orders/order_item 월 파티션을 관리한다. 앞으로 쓸 달의 파티션을 미리 만들고,
+ * 보관 기간이 지난 닫힌 달은 파티션 단위로 보관 테이블에 옮겨 원본 테이블과 인덱스 크기를 일정하게 유지한다.
+ * 파티션 경계는 UTC 기준 달이다.
+ */
+@Slf4j
+@Service
+public class OrderArchiveScheduler {
+
+    private static final String LOCK_KEY = "LOCK:order:archive";
+
+    private final OrderPartitionRepository orderPartitionRepository;
+    private final LockService lockService;
+    private final int retentionMonths;
+    private final int futureMonths;
+    private final long leaseSeconds;
+    private final Counter archivedCounter;
+
+    public OrderArchiveScheduler(OrderPartitionRepository orderPartitionRepository,
+                                 LockService lockService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${order.archive.retention-months:6}") int retentionMonths,
+                                 @Value("${order.archive.future-months:2}") int futureMonths,
+                                 @Value("${order.archive.lease-seconds:3600}") long leaseSeconds) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("주문 보관 기간은 1개월 이상이어야 합니다.");
+        }
+        this.orderPartitionRepository = orderPartitionRepository;
+        this.lockService = lockService;
+        this.retentionMonths = retentionMonths;
+        this.futureMonths = futureMonths;
+        this.leaseSeconds = leaseSeconds;
+        this.archivedCounter = Counter.builder("order.archive.archived")
+                .description("보관 테이블로 옮긴 주문 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            lockService.executeWithLock(LOCK_KEY, 0, leaseSeconds, TimeUnit.SECONDS, () -> {
+                run(YearMonth.now(ZoneOffset.UTC));
+                return null;
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("다른 노드가 주문 파티션 관리를 실행 중입니다.");
+        }
+    }
+
+    /**
+     * current 기준으로 futureMonths 뒤 달까지 파티션을 만들고, retentionMonths 전 달보다 오래된 파티션을 옮긴다.
+     */
+    public void run(YearMonth current) {
+        // 파티셔닝 DDL(db/order-partitioning.sql)을 적용하지 않은 환경에서는 아무것도 하지 않는다.
+        if (!orderPartitionRepository.isPartitioned()) {
+            log.debug("orders/order_item이 파티셔닝되어 있지 않아 파티션 관리를 건너뜁니다.");
+            return;
+        }
+        List<YearMonth> months = orderPartitionRepository.findPartitionMonths();
+        addFuturePartitions(months, current, current.plusMonths(futureMonths));
+        archiveClosedPartitions(months, current.minusMonths(retentionMonths));
+    }
+
+    private void addFuturePartitions(List<YearMonth> months, YearMonth current, YearMonth until) {
+        YearMonth next = months.isEmpty() ? current : months.get(months.size() - 1).plusMonths(1);
+        for (; !next.isAfter(until); next = next.plusMonths(1)) {
+            orderPartitionRepository.addPartition(next);
+            log.info("주문 파티션 추가: {}", next);
+        }
+    }
+
+    // firstRetained 이전 달은 닫힌 달이다. 그 달 마지막 주문도 보관 기간 밖일 때만 옮긴다.
+    private void archiveClosedPartitions(List<YearMonth> months, YearMonth firstRetained) {
+        LocalDateTime retainedFrom = firstRetained.atDay(1).atStartOfDay();
+        for (YearMonth month : months) {
+            if (!month.isBefore(firstRetained)) {
+                break;
+            }
+            Optional<LocalDateTime> latest = orderPartitionRepository.findLatestOrderedAt(month);
+            if (latest.isPresent() && !latest.get().isBefore(retainedFrom)) {
+                // TSID 이전 ID로 만든 최근 주문이 가장 오래된 파티션에 들어 있는 경우. 보관 기간이 지날 때까지 둔다.
+                log.warn("보관 기간 안의 주문이 있어 파티션을 옮기지 않습니다: month={}, latest={}", month, latest.get());
+                break;
+            }
+            try {
+                archivedCounter.increment(orderPartitionRepository.archive(month));
+            } catch (RuntimeException e) {
+                log.error("주문 파티션 보관 이동 실패: month={}", month, e);
+                break;
+            }
+        }
+    }
+}
@@ -2,12 +2,16 @@ package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.domain.order.*;
 import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductSnapshot;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
 import kr.hhplus.be.server.domain.user.UserPointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -18,13 +22,20 @@ public class OrderFacade {
     private final OrderService orderService;
     private final ProductService productService;
     private final UserPointService userPointService;
+    private final ProductStockReservation productStockReservation;
+    private final OrderViewService orderViewService;
 
 
     public OrderResult.Create processOrder(OrderCommand.Create command) {
-        userPointService.getUserOrThrow(command.getUserId());
-        for (OrderCommand.Item item : command.getItems()) {
-            productService.checkStock(item.getProductId(), item.getQuantity());
-        }
+        userPointService.checkUserExists(command.getUserId());
+
+        // 주문 줄 수와 관계없이 상품을 한 번에 읽고, 같은 상품이 여러 줄에 나오면 수량을 합쳐 재고를 확인한다.
+        ProductSnapshot products = productService.getSnapshot(
+                command.getItems().stream().map(OrderCommand.Item::getProductId).toList());
+        Map<Long, Integer> quantities = command.getItems().stream()
+                .collect(Collectors.groupingBy(OrderCommand.Item::getProductId, LinkedHashMap::new,
+                        Collectors.summingInt(OrderCommand.Item::getQuantity)));
+        quantities.forEach(products::checkStock);
 
         // 주문 가격은 클라이언트가 보낸 itemPrice를 신뢰하지 않고, 서버가 실제
         // Product.price를 조회해 강제한다 (클라이언트가 임의 가격으로 주문하는 것 방지).
@@ -32,11 +43,13 @@ public class OrderFacade {
                 .map(i -> new OrderLine(
                         i.getProductId(),
                         i.getQuantity(),
-                        productService.getProduct(i.getProductId()).getPrice()
+                        products.priceOf(i.getProductId())
                 ))
                 .collect(Collectors.toList());
 
         Order saved = orderService.create(command.getUserId(), lines);
+        // 확인만 하던 재고를 주문 시점에 Redis에서 떼어 둔다. 결제가 MySQL에 반영하고, 취소나 만료 시 되돌린다.
+        productStockReservation.reserve(saved.getId(), quantities);
 
         List<OrderResult.Item> resultItems = saved.getItems().stream()
                 .map(i -> new OrderResult.Item(i.getProductId(), i.getQuantity(), i.getOrderPrice()))
@@ -53,6 +66,7 @@ public class OrderFacade {
 
     public OrderResult.Create cancelOrder(Long orderId) {
         Order canceled = orderService.cancel(orderId);
+        productStockReservation.release(orderId);
 
         List<OrderResult.Item> items = OrderMapper.toResultItems(orderService.getOrderItems(canceled.getId()));
 
@@ -69,22 +83,24 @@ public class OrderFacade {
         );
     }
 
-    public List<OrderResult.Create> getOrdersByUser(Long userId) {
-        List<Order> orders = orderService.getOrdersByUser(userId);
-        return orders.stream()
-                .map(order -> {
-                    List<OrderResult.Item> items = orderService.getOrderItems(order.getId()).stream()
-                            .map(i -> new OrderResult.Item(i.getProductId(), i.getQuantity(), i.getOrderPrice()))
-                            .collect(Collectors.toList());
-                    return new OrderResult.Create(
-                            order.getId(),
-                            order.getUserId(),
-                            items,
-                            order.getTotalAmount(),
-                            order.getStatus()
-                    );
-                })
+    @Transactional(readOnly = true)
+    public OrderResult.History getOrdersByUser(Long userId, Long cursor, int size) {
+        OrderViewPage page = orderViewService.getHistory(userId, cursor, size);
+        List<OrderResult.Summary> orders = page.getViews().stream()
+                .map(view -> new OrderResult.Summary(
+                        view.getOrderId(),
+                        view.getUserId(),
+                        view.getItems().stream()
+                                .map(i -> new OrderResult.Item(i.getProductId(), i.getQuantity(), i.getItemPrice()))
+                                .collect(Collectors.toList()),
+                        view.getTotalAmount(),
+                        view.getStatus(),
+                        view.getPaidAmount(),
+                        view.getCouponId(),
+                        view.getOrderedAt()
+                ))
                 .collect(Collectors.toList());
+        return new OrderResult.History(orders, page.getNextCursor());
     }
 
 }
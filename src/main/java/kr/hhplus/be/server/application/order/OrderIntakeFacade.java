@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.*;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedMessage;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedProducer;
+import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductSnapshot;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import kr.hhplus.be.server.domain.user.UserPointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 요청을 Kafka에 넣고 추적 ID만 돌려준 뒤, 컨슈머가 모아 온 요청을 한 트랜잭션에서 주문으로 만든다.
+ * 사용자와 상품은 배치마다 IN 조회 한 번씩만 읽고, 주문 INSERT는 TSID 배치 INSERT로 묶인다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderIntakeFacade {
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final UserPointService userPointService;
+    private final ProductStockReservation productStockReservation;
+    private final OrderRequestedProducer orderRequestedProducer;
+    private final OrderIntakeStatusStore orderIntakeStatusStore;
+
+    public OrderIntakeState accept(OrderCommand.Create command) {
+        if (command.getItems() == null || command.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 항목이 비어 있습니다.");
+        }
+        OrderIntakeState accepted = OrderIntakeState.accepted(UUID.randomUUID().toString());
+        // 컨슈머가 결과를 먼저 쓰는 일이 없도록 접수 상태를 보내기 전에 남긴다.
+        orderIntakeStatusStore.save(accepted);
+        orderRequestedProducer.send(new OrderRequestedMessage(
+                accepted.getTrackingId(),
+                command.getUserId(),
+                command.getItems().stream()
+                        .map(i -> new OrderRequestedMessage.Item(i.getProductId(), i.getQuantity()))
+                        .collect(Collectors.toList())
+        ));
+        return accepted;
+    }
+
+    public OrderIntakeState getStatus(String trackingId) {
+        return orderIntakeStatusStore.find(trackingId)
+                .orElseThrow(() -> new IllegalArgumentException("주문 접수 내역을 찾을 수 없습니다. trackingId=" + trackingId));
+    }
+
+    @Transactional
+    public List<OrderIntakeState> createAll(List<OrderRequestedMessage> messages) {
+        Set<Long> userIds = userPointService.findExistingUserIds(
+                messages.stream().map(OrderRequestedMessage::getUserId).collect(Collectors.toSet()));
+        ProductSnapshot products = productService.findSnapshot(messages.stream()
+                .flatMap(m -> m.getItems().stream())
+                .map(OrderRequestedMessage.Item::getProductId)
+                .collect(Collectors.toSet()));
+
+        // 재전달된 요청은 처음 정한 주문 ID를 다시 쓴다. 재고 예약은 주문 ID마다 한 번만 잡히고,
+        // 커밋까지 됐던 주문은 다시 만들지 않는다.
+        Map<String, Long> orderIds = orderIntakeStatusStore.assignOrderIds(messages.stream()
+                .collect(Collectors.toMap(OrderRequestedMessage::getTrackingId, m -> orderService.nextOrderId(),
+                        (first, second) -> first, LinkedHashMap::new)));
+        Set<Long> existing = orderService.findExistingOrderIds(orderIds.values());
+
+        List<OrderIntakeState> states = new ArrayList<>(messages.size());
+        for (OrderRequestedMessage message : messages) {
+            Long orderId = orderIds.get(message.getTrackingId());
+            if (existing.contains(orderId)) {
+                states.add(OrderIntakeState.created(message.getTrackingId(), orderId));
+                continue;
+            }
+            try {
+                states.add(create(message, orderId, userIds, products));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                log.warn("주문 접수 실패: trackingId={}, userId={}, reason={}",
+                        message.getTrackingId(), message.getUserId(), e.getMessage());
+                states.add(OrderIntakeState.failed(message.getTrackingId(), e.getMessage()));
+            }
+        }
+        return states;
+    }
+
+    private OrderIntakeState create(OrderRequestedMessage message, Long orderId,
+                                    Set<Long> userIds, ProductSnapshot products) {
+        if (!userIds.contains(message.getUserId())) {
+            throw new IllegalArgumentException("유저를 찾을수 없습니다.");
+        }
+        if (message.getItems() == null || message.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 항목이 비어 있습니다.");
+        }
+        Map<Long, Integer> quantities = message.getItems().stream()
+                .collect(Collectors.groupingBy(OrderRequestedMessage.Item::getProductId, LinkedHashMap::new,
+                        Collectors.summingInt(OrderRequestedMessage.Item::getQuantity)));
+        quantities.forEach(products::checkStock);
+        List<OrderLine> lines = message.getItems().stream()
+                .map(i -> new OrderLine(i.getProductId(), i.getQuantity(), products.priceOf(i.getProductId())))
+                .collect(Collectors.toList());
+
+        // 재고를 먼저 잡고 같은 ID로 주문을 저장해, 품절된 요청은 주문 행을 남기지 않는다.
+        // 배치 트랜잭션이 롤백되면 reserve가 등록한 롤백 훅이 예약을 되돌린다.
+        productStockReservation.reserve(orderId, quantities);
+        try {
+            orderService.createWithId(orderId, message.getUserId(), lines);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            productStockReservation.release(orderId);
+            throw e;
+        }
+        return OrderIntakeState.created(message.getTrackingId(), orderId);
+    }
+}
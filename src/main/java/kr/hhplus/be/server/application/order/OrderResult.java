@@ -4,6 +4,7 @@ import kr.hhplus.be.server.domain.order.OrderStatus;
 import lombok.Getter;
 import lombok.AllArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public final class OrderResult {
@@ -19,6 +20,26 @@ public final class OrderResult {
         private final OrderStatus status;
     }
 
+    @Getter
+    @AllArgsConstructor
+    public static class History {
+        private final List<Summary> orders;
+        private final Long nextCursor;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+        private final Long orderId;
+        private final Long userId;
+        private final List<Item> items;
+        private final int totalPrice;
+        private final OrderStatus status;
+        private final Integer paidAmount;
+        private final Long couponId;
+        private final LocalDateTime orderedAt;
+    }
+
     @Getter
     @AllArgsConstructor
     public static class Item {
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.OrderViewBackfillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 모델을 도입하기 전에 생긴 주문을 order_view로 옮긴다. 기본으로 기동할 때마다 실행한다.
+ * 새 주문은 생성 트랜잭션에서 읽기 모델이 만들어지므로, 마친 지점을 남겨 다음 기동에서는 그 뒤 주문만 확인한다.
+ * 이미 있는 행은 건너뛰므로 도중에 멈추거나 다시 돌려도 결과가 같다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.view.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class OrderViewBackfillRunner implements ApplicationRunner {
+
+    private static final String LOCK_KEY = "LOCK:order:view:backfill";
+
+    private final OrderViewBackfillRepository orderViewBackfillRepository;
+    private final LockService lockService;
+    private final int chunkSize;
+    private final long leaseSeconds;
+
+    public OrderViewBackfillRunner(OrderViewBackfillRepository orderViewBackfillRepository,
+                                   LockService lockService,
+                                   @Value("${order.view.backfill-chunk-size:1000}") int chunkSize,
+                                   @Value("${order.view.backfill-lease-seconds:3600}") long leaseSeconds) {
+        this.orderViewBackfillRepository = orderViewBackfillRepository;
+        this.lockService = lockService;
+        this.chunkSize = chunkSize;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    // 여러 노드가 함께 기동해도 잠금을 잡은 한 노드만 채운다.
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            lockService.executeWithLock(LOCK_KEY, 0, leaseSeconds, TimeUnit.SECONDS, () -> {
+                backfill();
+                return null;
+            });
+        } catch (LockAcquisitionException e) {
+            log.info("다른 노드가 주문 읽기 모델 백필을 실행 중입니다.");
+        }
+    }
+
+    void backfill() {
+        long lastId = orderViewBackfillRepository.findBackfilledUntil();
+        long inserted = 0;
+        List<Long> ids;
+        do {
+            ids = orderViewBackfillRepository.findOrderIdsAfter(lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long toId = ids.get(ids.size() - 1);
+            inserted += orderViewBackfillRepository.backfill(lastId, toId);
+            // 조각마다 남겨 두어 도중에 멈춰도 다음 기동이 이어서 채운다.
+            orderViewBackfillRepository.saveBackfilledUntil(toId);
+            lastId = toId;
+        } while (ids.size() == chunkSize);
+        log.info("주문 읽기 모델 백필 완료: inserted={}, until={}", inserted, lastId);
+    }
+}
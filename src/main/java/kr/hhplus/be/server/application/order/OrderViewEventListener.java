@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.OrderViewService;
+import kr.hhplus.be.server.domain.order.event.OrderCanceledEvent;
+import kr.hhplus.be.server.domain.order.event.OrderCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성·취소를 같은 트랜잭션 안에서 읽기 모델에 반영한다.
+ * 주문이 롤백되면 읽기 모델도 함께 롤백되어, 생성·취소 직후 조회에서 바로 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderViewEventListener {
+    private final OrderViewService orderViewService;
+
+    @EventListener
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        orderViewService.created(event.getOrder());
+    }
+
+    @EventListener
+    public void handleOrderCanceled(OrderCanceledEvent event) {
+        orderViewService.canceled(event.getOrderIds());
+    }
+}
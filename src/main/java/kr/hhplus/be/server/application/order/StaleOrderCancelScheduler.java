@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderService;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class StaleOrderCancelScheduler {
+
+    private static final String LOCK_KEY = "LOCK:order:auto-cancel";
+
+    private final OrderService orderService;
+    private final ProductStockReservation productStockReservation;
+    private final LockService lockService;
+    private final Duration pendingTimeout;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long leaseSeconds;
+    private final Counter canceledCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+
+    public StaleOrderCancelScheduler(OrderService orderService,
+                                     ProductStockReservation productStockReservation,
+                                     LockService lockService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${order.auto-cancel.pending-minutes:30}") long pendingMinutes,
+                                     @Value("${order.auto-cancel.chunk-size:500}") int chunkSize,
+                                     @Value("${order.auto-cancel.max-chunks-per-run:100}") int maxChunksPerRun,
+                                     @Value("${order.auto-cancel.lease-seconds:300}") long leaseSeconds) {
+        this.orderService = orderService;
+        this.productStockReservation = productStockReservation;
+        this.lockService = lockService;
+        this.pendingTimeout = Duration.ofMinutes(pendingMinutes);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.leaseSeconds = leaseSeconds;
+        this.canceledCounter = Counter.builder("order.auto-cancel.canceled")
+                .description("결제되지 않아 자동 취소한 주문 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("order.auto-cancel.skipped")
+                .description("조회 후 취소 직전에 결제되거나 취소되어 건너뛴 주문 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("order.auto-cancel.duration")
+                .description("자동 취소 한 회 실행 시간")
+                .register(meterRegistry);
+    }
+
+    // 여러 노드 중 잠금을 잡은 한 노드만 실행한다. 잡지 못한 노드는 이번 주기를 건너뛴다.
+    @Scheduled(fixedDelayString = "${order.auto-cancel.interval-ms:60000}")
+    public void cancelStaleOrders() {
+        try {
+            lockService.executeWithLock(LOCK_KEY, 0, leaseSeconds, TimeUnit.SECONDS, () -> {
+                Timer.Sample sample = Timer.start();
+                try {
+                    return cancelStale(LocalDateTime.now().minus(pendingTimeout));
+                } finally {
+                    sample.stop(runTimer);
+                }
+            });
+        } catch (LockAcquisitionException e) {
+            log.debug("다른 노드가 주문 자동 취소를 실행 중입니다.");
+        }
+    }
+
+    /**
+     * cutoff 이전에 만들어진 PENDING 주문을 chunkSize씩 키셋으로 읽어 취소하고 재고 예약을 되돌린다.
+     * 한 번에 maxChunksPerRun 조각까지만 처리해 잠금 유지 시간 안에 끝낸다. 남은 주문은 다음 주기에 이어서 처리된다.
+     */
+    public long cancelStale(LocalDateTime cutoff) {
+        long canceled = 0;
+        LocalDateTime lastCreatedAt = null;
+        Long lastId = null;
+        List<Order> chunk;
+        int chunks = 0;
+        do {
+            chunk = orderService.getStalePendingOrders(cutoff, lastCreatedAt, lastId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<Long> canceledIds;
+            try {
+                canceledIds = orderService.cancelPendingOrders(chunk.stream().map(Order::getId).toList());
+            } catch (RuntimeException e) {
+                log.error("주문 자동 취소 실패: fromOrderId={}", chunk.get(0).getId(), e);
+                break;
+            }
+            // 취소가 커밋된 뒤이므로 바로 되돌린다. 이미 만료로 풀린 예약은 아무 일도 하지 않는다.
+            canceledIds.forEach(productStockReservation::release);
+            canceledCounter.increment(canceledIds.size());
+            skippedCounter.increment(chunk.size() - canceledIds.size());
+            canceled += canceledIds.size();
+
+            Order last = chunk.get(chunk.size() - 1);
+            lastCreatedAt = last.getCreatedAt();
+            lastId = last.getId();
+        } while (chunk.size() == chunkSize && ++chunks < maxChunksPerRun);
+
+        if (canceled > 0) {
+            log.info("결제되지 않은 주문 자동 취소: canceled={}, cutoff={}", canceled, cutoff);
+        }
+        return canceled;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class StockReservationExpiryScheduler {
+    private final ProductStockReservation productStockReservation;
+    private final int batchSize;
+
+    public StockReservationExpiryScheduler(ProductStockReservation productStockReservation,
+                                           @Value("${order.stock-reservation.release-batch-size:500}") int batchSize) {
+        this.productStockReservation = productStockReservation;
+        this.batchSize = batchSize;
+    }
+
+    // 결제되지 않고 만료 시각이 지난 예약을 batchSize씩 재고로 되돌린다. 여러 노드가 돌아도 한 번만 되돌려진다.
+    @Scheduled(fixedDelayString = "${order.stock-reservation.release-interval-ms:5000}")
+    public void releaseExpiredReservations() {
+        int released;
+        do {
+            released = productStockReservation.releaseExpired(batchSize);
+            if (released > 0) {
+                log.info("만료된 상품 재고 예약 해제: released={}", released);
+            }
+        } while (released == batchSize);
+    }
+}
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.application.user.UserPointFacade;
 import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.WalletCoupon;
 import kr.hhplus.be.server.domain.coupon.event.CouponEventPublisher;
 import kr.hhplus.be.server.domain.coupon.event.CouponValidateEvent;
 import kr.hhplus.be.server.domain.order.Order;
@@ -13,11 +14,14 @@ import kr.hhplus.be.server.domain.payment.event.PaymentCompletedProducer;
 import kr.hhplus.be.server.domain.point.event.PointEventPublisher;
 import kr.hhplus.be.server.domain.point.event.PointUseEvent;
 import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +34,7 @@ public class PaymentFacade {
     private final CouponEventPublisher couponEventPublisher;
     private final PointEventPublisher pointEventPublisher;
     private final PaymentCompletedProducer paymentCompletedProducer;
+    private final ProductStockReservation productStockReservation;
 
     @Transactional
     public Payment processPayment(Long orderId, int paymentAmount) {
@@ -43,16 +48,22 @@ public class PaymentFacade {
                             + ", orderTotalAmount=" + order.getTotalAmount());
         }
 
-        Long couponId = couponService.getAvailableCouponId(order.getUserId());
+        WalletCoupon coupon = couponService.getAvailableCoupon(order.getUserId()).orElse(null);
 
-        Payment payment = calculateDiscountAndCreatePayment(order.getUserId(), orderId, couponId, order.getTotalAmount());
+        Payment payment = calculateDiscountAndCreatePayment(order.getUserId(), orderId, coupon, order.getTotalAmount());
 
         order = orderService.pay(orderId);
 
-        List<OrderItem> items = orderService.getOrderItems(orderId);
-        for (OrderItem item : items) {
-            productService.decreaseStock(item.getProductId(), item.getQuantity());
+        Map<Long, Integer> quantities = quantitiesOf(orderService.getOrderItems(orderId));
+        // 주문 때 잡아 둔 예약을 가져온다. 만료되어 되돌려졌으면 지금 다시 예약한다.
+        if (!productStockReservation.claim(orderId)) {
+            productStockReservation.reserve(orderId, quantities);
+            // 다시 잡은 예약을 가져오지 못하면 재고 차감 근거가 없으므로 결제를 진행하지 않는다.
+            if (!productStockReservation.claim(orderId)) {
+                throw new IllegalStateException("재고 예약을 확정하지 못했습니다. 잠시 후 다시 시도해주세요. orderId=" + orderId);
+            }
         }
+        productService.decreaseReservedStocks(quantities);
 
         paymentCompletedProducer.send(payment, order);
 
@@ -72,6 +83,7 @@ public class PaymentFacade {
         }
 
         List<OrderItem> items = orderService.getOrderItems(refundPayment.getOrderId());
+        // 늘린 재고는 상품 서비스가 커밋 뒤 Redis 가용 재고에도 반영한다.
         for (OrderItem item : items) {
             productService.increaseStock(item.getProductId(), item.getQuantity());
         }
@@ -79,11 +91,19 @@ public class PaymentFacade {
         return refundPayment;
     }
 
-    private Payment calculateDiscountAndCreatePayment(Long userId, Long orderId, Long couponId, int totalAmount) {
+    private Map<Long, Integer> quantitiesOf(List<OrderItem> items) {
+        return items.stream()
+                .collect(Collectors.groupingBy(OrderItem::getProductId, Collectors.summingInt(OrderItem::getQuantity)));
+    }
+
+    private Payment calculateDiscountAndCreatePayment(Long userId, Long orderId, WalletCoupon coupon, int totalAmount) {
         int discountAmount = 0;
-        if (couponId != null) {
+        Long couponId = null;
+        if (coupon != null) {
+            couponId = coupon.getCouponId();
             couponEventPublisher.publishCouponValidate(new CouponValidateEvent(userId, orderId, couponId));
-            discountAmount = couponService.calculateDiscountAmount(couponId, totalAmount);
+            // 지갑에 쿠폰 정책이 함께 있으므로 쿠폰을 다시 조회하지 않는다.
+            discountAmount = coupon.calculateDiscountAmount(totalAmount);
             pointEventPublisher.publishPointUsed(new PointUseEvent(userId, totalAmount - discountAmount));
         } else {
             pointEventPublisher.publishPointUsed(new PointUseEvent(userId, totalAmount));
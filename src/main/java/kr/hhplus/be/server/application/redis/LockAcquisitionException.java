@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.application.redis;
+
+// 잠금을 잡지 못했을 때만 던진다. 잠금 안에서 실행한 작업의 예외와 구분하기 위해 따로 둔다.
+public class LockAcquisitionException extends IllegalStateException {
+    public LockAcquisitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.cart;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CartItem {
+    private final Long productId;
+    private final int quantity;
+}
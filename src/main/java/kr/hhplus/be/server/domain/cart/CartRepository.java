@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.cart;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CartRepository {
+    int increase(Long userId, Long productId, int quantity);
+    void set(Long userId, Long productId, int quantity);
+    boolean remove(Long userId, Long productId);
+    void removeAll(Long userId, Collection<Long> productIds);
+    List<CartItem> findAll(Long userId);
+    long countItems(Long userId);
+    boolean contains(Long userId, Long productId);
+}
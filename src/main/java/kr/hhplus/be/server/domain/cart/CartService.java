@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.domain.cart;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class CartService {
+
+    private final CartRepository cartRepository;
+    private final int maxItems;
+    private final int maxQuantity;
+
+    public CartService(CartRepository cartRepository,
+                       @Value("${cart.max-items:100}") int maxItems,
+                       @Value("${cart.max-quantity:999}") int maxQuantity) {
+        this.cartRepository = cartRepository;
+        this.maxItems = maxItems;
+        this.maxQuantity = maxQuantity;
+    }
+
+    // 이미 담긴 상품이면 수량을 더하고, 새 상품이면 종류 수 한도를 확인한다.
+    public CartItem add(Long userId, Long productId, int quantity) {
+        validate(productId, quantity);
+        if (!cartRepository.contains(userId, productId) && cartRepository.countItems(userId) >= maxItems) {
+            throw new IllegalStateException("장바구니에는 상품을 " + maxItems + "종류까지 담을 수 있습니다.");
+        }
+        int total = cartRepository.increase(userId, productId, quantity);
+        if (total > maxQuantity) {
+            // 더한 만큼만 되돌려, 그 사이 다른 요청이 바꾼 수량은 그대로 둔다.
+            cartRepository.increase(userId, productId, -quantity);
+            throw new IllegalArgumentException("상품 하나의 수량은 " + maxQuantity + "개를 넘을 수 없습니다.");
+        }
+        return new CartItem(productId, total);
+    }
+
+    public CartItem update(Long userId, Long productId, int quantity) {
+        validate(productId, quantity);
+        if (!cartRepository.contains(userId, productId)) {
+            throw new IllegalArgumentException("장바구니에 없는 상품입니다. productId=" + productId);
+        }
+        cartRepository.set(userId, productId, quantity);
+        return new CartItem(productId, quantity);
+    }
+
+    public void remove(Long userId, Long productId) {
+        if (!cartRepository.remove(userId, productId)) {
+            throw new IllegalArgumentException("장바구니에 없는 상품입니다. productId=" + productId);
+        }
+    }
+
+    public List<CartItem> getItems(Long userId) {
+        return cartRepository.findAll(userId);
+    }
+
+    public void removeAll(Long userId, Collection<Long> productIds) {
+        if (!productIds.isEmpty()) {
+            cartRepository.removeAll(userId, productIds);
+        }
+    }
+
+    private void validate(Long productId, int quantity) {
+        if (productId == null) {
+            throw new IllegalArgumentException("상품 정보가 잘못 입력되었습니다.");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
+        }
+        if (quantity > maxQuantity) {
+            throw new IllegalArgumentException("상품 하나의 수량은 " + maxQuantity + "개를 넘을 수 없습니다.");
+        }
+    }
+}
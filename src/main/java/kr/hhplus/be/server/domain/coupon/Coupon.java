@@ -113,8 +113,7 @@ public class Coupon {
     }
 
     public int calculateDiscountAmount(int orderAmount) {
-        int discount = (orderAmount * discountRate) / 100;
-        return Math.min(discount, maxDiscountAmount);
+        return CouponPolicy.discountOf(orderAmount, discountRate, maxDiscountAmount);
     }
 
     public Coupon expire() {
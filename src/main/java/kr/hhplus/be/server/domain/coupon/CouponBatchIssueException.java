@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.domain.coupon;
+
+public class CouponBatchIssueException extends RuntimeException {
+
+    private final int failedIndex;
+
+    public CouponBatchIssueException(String message, Throwable cause, int failedIndex) {
+        super(message, cause);
+        this.failedIndex = failedIndex;
+    }
+
+    public int getFailedIndex() {
+        return failedIndex;
+    }
+}
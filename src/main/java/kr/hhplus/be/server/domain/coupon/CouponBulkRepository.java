@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.Map;
+
+public interface CouponBulkRepository {
+    int updateLimitCounts(Map<Long, Integer> remainingByCouponId);
+}
@@ -1,10 +1,26 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CouponInventoryReader {
     boolean issue(Long couponId, Long userId);
+    List<CouponIssueResult> issueAll(List<CouponIssuedMessage> messages);
     void release(Long couponId, Long userId);
     void initialize(Long couponId, int limitCount, LocalDateTime expirationAt);
+    void initialize(Long couponId, int limitCount, LocalDateTime expirationAt, IssuedUserTracking issuedUserTracking);
+    boolean hasInventory(Long couponId);
+    int remaining(Long couponId);
+    int issueLimit(Long couponId);
+    Map<Long, Integer> remainingAll(Collection<Long> couponIds);
+    Set<Long> popChangedCouponIds(int count);
+    void markChanged(Collection<Long> couponIds);
+    void scanIssuedUsers(Long couponId, int chunkSize, Consumer<List<Long>> consumer);
+    Set<Long> findIssued(Long couponId, List<Long> userIds);
 }
-
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.Arrays;
+
+public enum CouponIssueResult {
+    ISSUED(1),
+    CLOSED(-1),
+    DUPLICATE(-2),
+    SOLD_OUT(-3);
+
+    private final long code;
+
+    CouponIssueResult(long code) {
+        this.code = code;
+    }
+
+    public long getCode() {
+        return code;
+    }
+
+    public static CouponIssueResult of(long code) {
+        return Arrays.stream(values())
+                .filter(result -> result.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 쿠폰 발급 결과 코드입니다. code=" + code));
+    }
+
+    public boolean isIssued() {
+        return this == ISSUED;
+    }
+
+    public boolean isExhausted() {
+        return this == SOLD_OUT || this == CLOSED;
+    }
+
+    public void throwIfFailed() {
+        switch (this) {
+            case CLOSED -> throw new CouponIssuanceClosedException("발급이 종료된 쿠폰입니다.");
+            case DUPLICATE -> throw new DuplicateCouponIssueException("이미 발급받은 사용자입니다.");
+            case SOLD_OUT -> throw new CouponSoldOutException("재고가 소진되었습니다.");
+            default -> {
+            }
+        }
+    }
+}
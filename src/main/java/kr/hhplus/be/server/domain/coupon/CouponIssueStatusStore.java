@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponIssueStatusStore {
+    void save(Long couponId, Long userId, CouponIssueResult result);
+    void saveAll(List<CouponIssuedMessage> messages, List<CouponIssueResult> results);
+    Optional<CouponIssueResult> find(Long couponId, Long userId);
+}
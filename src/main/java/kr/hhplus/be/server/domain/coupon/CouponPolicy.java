@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 발급 후 바뀌지 않는 쿠폰 정책 스냅샷. 발급 수량 같은 실시간 값은 담지 않는다.
+@Getter
+public class CouponPolicy {
+    private final Long couponId;
+    private final String name;
+    private final int discountRate;
+    private final int maxDiscountAmount;
+    private final LocalDateTime expirationAt;
+    private final LocalDateTime createdAt;
+
+    public CouponPolicy(Long couponId, String name, int discountRate, int maxDiscountAmount,
+                        LocalDateTime expirationAt, LocalDateTime createdAt) {
+        this.couponId = couponId;
+        this.name = name;
+        this.discountRate = discountRate;
+        this.maxDiscountAmount = maxDiscountAmount;
+        this.expirationAt = expirationAt;
+        this.createdAt = createdAt;
+    }
+
+    public static CouponPolicy from(Coupon coupon) {
+        return new CouponPolicy(
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDiscountRate(),
+                coupon.getMaxDiscountAmount(),
+                coupon.getExpirationAt(),
+                coupon.getCreatedAt()
+        );
+    }
+
+    public boolean isExpired() {
+        return expirationAt.isBefore(LocalDateTime.now());
+    }
+
+    public int calculateDiscountAmount(int orderAmount) {
+        return discountOf(orderAmount, discountRate, maxDiscountAmount);
+    }
+
+    /**
+     * 할인 금액 계산식. 쿠폰, 정책 스냅샷, 지갑 항목이 모두 이 식을 쓴다.
+     */
+    public static int discountOf(int orderAmount, int discountRate, int maxDiscountAmount) {
+        int discount = (orderAmount * discountRate) / 100;
+        return Math.min(discount, maxDiscountAmount);
+    }
+}
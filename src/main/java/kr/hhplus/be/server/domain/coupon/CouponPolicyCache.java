@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.Optional;
+
+public interface CouponPolicyCache {
+    Optional<CouponPolicy> find(Long couponId);
+    void put(CouponPolicy policy);
+}
@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+public interface CouponReconciliationCandidateStore {
+    // 이번 점검에서 Redis에만 있던 사용자를 기록하고, 처음 발견된 지 grace 이상 지난 사용자만 돌려준다.
+    Set<Long> retainOlderThan(Long couponId, List<Long> candidates, Duration grace);
+}
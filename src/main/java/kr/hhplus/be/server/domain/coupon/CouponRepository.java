@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +19,10 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     @Query("SELECT c FROM Coupon c WHERE c.status = 'ACTIVE'")
     List<Coupon> findActiveCoupons();
+
+    @Query("SELECT c FROM Coupon c WHERE c.status = 'ACTIVE' AND c.expirationAt > :now")
+    List<Coupon> findActiveCouponsExpiringAfter(@Param("now") LocalDateTime now);
+
+    @Query("SELECT c.id FROM Coupon c WHERE c.expirationAt < :now ORDER BY c.id")
+    List<Long> findExpiredCouponIds(@Param("now") LocalDateTime now);
 }
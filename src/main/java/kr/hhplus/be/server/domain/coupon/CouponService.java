@@ -1,11 +1,14 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -14,10 +17,19 @@ public class CouponService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponInventoryReader couponInventoryReader;
+    private final UserCouponBulkRepository userCouponBulkRepository;
+    private final CouponWalletCache couponWalletCache;
+    private final CouponPolicyCache couponPolicyCache;
 
     @Transactional
     public Coupon create(String name, int discountRate,
                          int maxDiscountAmount, LocalDateTime expirationAt, int limitCount) {
+        return create(name, discountRate, maxDiscountAmount, expirationAt, limitCount, null);
+    }
+
+    @Transactional
+    public Coupon create(String name, int discountRate, int maxDiscountAmount, LocalDateTime expirationAt,
+                         int limitCount, IssuedUserTracking issuedUserTracking) {
 
         Coupon coupon = Coupon.create(
                 name,
@@ -29,7 +41,12 @@ public class CouponService {
 
         Coupon saved = couponRepository.save(coupon);
 
-        couponInventoryReader.initialize(saved.getId(), limitCount, expirationAt);
+        if (issuedUserTracking == null) {
+            couponInventoryReader.initialize(saved.getId(), limitCount, expirationAt);
+        } else {
+            couponInventoryReader.initialize(saved.getId(), limitCount, expirationAt, issuedUserTracking);
+        }
+        couponPolicyCache.put(CouponPolicy.from(saved));
 
         return saved;
     }
@@ -39,15 +56,43 @@ public class CouponService {
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. couponId=" + couponId));
     }
 
+    // 정책은 거의 바뀌지 않으므로 노드 메모리 스냅샷을 먼저 보고, 없을 때만 DB에서 읽는다.
+    public CouponPolicy getPolicy(Long couponId) {
+        return couponPolicyCache.find(couponId).orElseGet(() -> {
+            CouponPolicy policy = CouponPolicy.from(getCouponOrThrow(couponId));
+            couponPolicyCache.put(policy);
+            return policy;
+        });
+    }
+
+    public int getRemainingCount(Long couponId) {
+        return couponInventoryReader.remaining(couponId);
+    }
+
+    public int getIssueLimit(Long couponId) {
+        return couponInventoryReader.issueLimit(couponId);
+    }
+
     public Long getAvailableCouponId(Long userId) {
+        return getAvailableCoupon(userId)
+                .map(WalletCoupon::getCouponId)
+                .orElse(null);
+    }
+
+    // 캐시된 지갑에서 만료되지 않은 첫 쿠폰을 고른다. 캐시가 있으면 쿠폰 관련 쿼리 없이 할인 금액까지 계산할 수 있다.
+    public Optional<WalletCoupon> getAvailableCoupon(Long userId) {
         if (userId == null) {
-            return null;
+            return Optional.empty();
         }
-        return userCouponRepository.findAllByUserId(userId)
-                .stream()
-                .findFirst()
-                .map(UserCoupon::getCouponId)
-                .orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        List<WalletCoupon> wallet = couponWalletCache.find(userId).orElseGet(() -> {
+            List<WalletCoupon> loaded = userCouponRepository.findWalletCoupons(userId, now);
+            couponWalletCache.save(userId, loaded);
+            return loaded;
+        });
+        return wallet.stream()
+                .filter(coupon -> coupon.isUsableAt(now))
+                .findFirst();
     }
 
     @Transactional
@@ -55,13 +100,62 @@ public class CouponService {
         couponInventoryReader.issue(couponId, userId);
         try {
             UserCoupon userCoupon = UserCoupon.issue(couponId, userId);
-            return userCouponRepository.save(userCoupon);
+            UserCoupon saved = userCouponRepository.save(userCoupon);
+            couponWalletCache.evict(userId);
+            return saved;
         } catch (Exception e) {
             couponInventoryReader.release(couponId, userId);
             throw e;
         }
     }
 
+    // 여러 발급 요청을 Redis 호출 한 번과 JDBC 배치 INSERT 한 번으로 처리한다.
+    // 배치 INSERT가 실패하면 당첨 건을 하나씩 다시 저장하고, 실패한 건은 단건 발급처럼 재고를 되돌린 뒤 가장 앞선 실패 위치를 알린다.
+    public List<CouponIssueResult> issueAll(List<CouponIssuedMessage> messages) {
+        List<CouponIssueResult> results = couponInventoryReader.issueAll(messages);
+
+        List<Integer> winnerIndexes = new ArrayList<>();
+        List<UserCoupon> winners = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (results.get(i).isIssued()) {
+                CouponIssuedMessage message = messages.get(i);
+                winnerIndexes.add(i);
+                winners.add(UserCoupon.issue(message.getCouponId(), message.getUserId()));
+            }
+        }
+
+        try {
+            userCouponBulkRepository.insertAll(winners);
+            return results;
+        } catch (Exception e) {
+            saveOneByOne(messages, winnerIndexes, winners);
+            return results;
+        } finally {
+            couponWalletCache.evictAll(winners.stream().map(UserCoupon::getUserId).toList());
+        }
+    }
+
+    private void saveOneByOne(List<CouponIssuedMessage> messages, List<Integer> winnerIndexes, List<UserCoupon> winners) {
+        CouponBatchIssueException failure = null;
+        for (int i = 0; i < winners.size(); i++) {
+            UserCoupon userCoupon = winners.get(i);
+            try {
+                userCouponRepository.save(userCoupon);
+            } catch (Exception e) {
+                couponInventoryReader.release(userCoupon.getCouponId(), userCoupon.getUserId());
+                if (failure == null) {
+                    CouponIssuedMessage message = messages.get(winnerIndexes.get(i));
+                    failure = new CouponBatchIssueException(
+                            "쿠폰 발급 저장에 실패했습니다. couponId=" + message.getCouponId() + ", userId=" + message.getUserId(),
+                            e, winnerIndexes.get(i));
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     public UserCoupon getById(Long userCouponId) {
         return userCouponRepository.findById(userCouponId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 쿠폰을 찾을 수 없습니다. userCouponId=" + userCouponId));
@@ -76,6 +170,7 @@ public class CouponService {
     public UserCoupon use(Long userCouponId) {
         UserCoupon userCoupon = getById(userCouponId);
         userCoupon.use();
+        couponWalletCache.evict(userCoupon.getUserId());
         return userCoupon;
     }
 
@@ -83,6 +178,7 @@ public class CouponService {
     public UserCoupon refund(Long userCouponId) {
         UserCoupon userCoupon = getById(userCouponId);
         userCoupon.refund();
+        couponWalletCache.evict(userCoupon.getUserId());
         return userCoupon;
     }
 
@@ -96,6 +192,7 @@ public class CouponService {
     public UserCoupon useByCoupon(Long userId, Long couponId) {
         UserCoupon userCoupon = getByUserAndCouponOrThrow(userId, couponId);
         userCoupon.use();
+        couponWalletCache.evict(userId);
         return userCoupon;
     }
 
@@ -103,12 +200,12 @@ public class CouponService {
     public UserCoupon refundByCoupon(Long userId, Long couponId) {
         UserCoupon userCoupon = getByUserAndCouponOrThrow(userId, couponId);
         userCoupon.refund();
+        couponWalletCache.evict(userId);
         return userCoupon;
     }
 
     public int calculateDiscountAmount(Long couponId, int totalAmount) {
-        Coupon coupon = getCouponOrThrow(couponId);
-        return coupon.calculateDiscountAmount(totalAmount);
+        return getPolicy(couponId).calculateDiscountAmount(totalAmount);
     }
 
     public void updateLimitCount(Long id, int remaining) {
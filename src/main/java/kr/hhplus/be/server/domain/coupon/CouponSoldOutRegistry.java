@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.domain.coupon;
+
+public interface CouponSoldOutRegistry {
+    CouponIssueResult status(Long couponId);
+    void checkIssuable(Long couponId);
+    void markExhausted(Long couponId, CouponIssueResult result);
+    void clear(Long couponId);
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CouponWaitingQueue {
+    WaitingTicket enter(Long couponId, Long userId);
+    WaitingTicket status(Long couponId, Long userId, String token);
+    List<WaitingEntry> admit(Long couponId, int count);
+    void requeue(Long couponId, List<WaitingEntry> entries);
+    Set<Long> activeCouponIds();
+    boolean isActive(Long couponId);
+    long depth(Long couponId);
+}
@@ -0,0 +1,7 @@
+package kr.hhplus.be.server.domain.coupon;
+
+public class CouponWaitingRequiredException extends IllegalStateException {
+    public CouponWaitingRequiredException(String message) {
+        super(message);
+    }
+}
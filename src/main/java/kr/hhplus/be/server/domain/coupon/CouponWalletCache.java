@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponWalletCache {
+    Optional<List<WalletCoupon>> find(Long userId);
+    void save(Long userId, List<WalletCoupon> coupons);
+    void evict(Long userId);
+    void evictAll(Collection<Long> userIds);
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.domain.coupon;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidId;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,11 +13,15 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "user_coupon",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "couponId"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"userId", "couponId"}),
+        indexes = {
+                @Index(name = "idx_user_coupon_coupon_user", columnList = "couponId, userId"),
+                @Index(name = "idx_user_coupon_coupon_status", columnList = "couponId, status")
+        })
 public class UserCoupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     private Long userId;
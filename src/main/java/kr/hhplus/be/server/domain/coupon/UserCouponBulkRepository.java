@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.util.List;
+
+public interface UserCouponBulkRepository {
+    void insertAll(List<UserCoupon> userCoupons);
+    List<Long> findIssuedIdsByCouponId(Long couponId, long lastId, int limit);
+    int expireAll(List<Long> userCouponIds);
+}
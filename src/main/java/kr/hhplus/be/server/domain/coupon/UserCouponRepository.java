@@ -1,8 +1,13 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +18,20 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
 
     List<UserCoupon> findAllByCouponId(Long couponId);
-}
\ No newline at end of file
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId > :lastUserId ORDER BY uc.userId")
+    List<Long> findUserIdsByCouponIdAfter(@Param("couponId") Long couponId,
+                                          @Param("lastUserId") Long lastUserId,
+                                          Pageable pageable);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") Long couponId,
+                                                @Param("userIds") Collection<Long> userIds);
+
+    // 만료되지 않은 쿠폰을 먼저 발급된 것부터 쿠폰 정책과 함께 돌려준다. 만료 정리 전이라도 만료된 쿠폰은 고르지 않는다.
+    @Query("SELECT new kr.hhplus.be.server.domain.coupon.WalletCoupon(c.id, c.discountRate, c.maxDiscountAmount, c.expirationAt) " +
+            "FROM UserCoupon uc JOIN Coupon c ON c.id = uc.couponId " +
+            "WHERE uc.userId = :userId AND uc.status = 'ISSUED' AND c.expirationAt > :now ORDER BY uc.id")
+    List<WalletCoupon> findWalletCoupons(@Param("userId") Long userId,
+                                         @Param("now") LocalDateTime now);
+}
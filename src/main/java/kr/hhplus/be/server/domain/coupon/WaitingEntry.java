@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WaitingEntry {
+    private final Long userId;
+    // 대기열 진입 시각(ms). 다시 줄 세울 때 원래 순번을 지키는 데 쓴다.
+    private final long enteredAt;
+}
@@ -0,0 +1,5 @@
+package kr.hhplus.be.server.domain.coupon;
+
+public enum WaitingStatus {
+    WAITING, ADMITTED
+}
@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WaitingTicket {
+    private final String token;
+    private final WaitingStatus status;
+    private final long position;
+
+    public static WaitingTicket of(String token, long rank) {
+        if (rank < 0) {
+            return new WaitingTicket(token, WaitingStatus.ADMITTED, 0);
+        }
+        return new WaitingTicket(token, WaitingStatus.WAITING, rank + 1);
+    }
+}
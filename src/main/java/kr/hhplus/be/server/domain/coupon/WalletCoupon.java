@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 결제 시 쿠폰을 다시 조회하지 않도록 사용자 쿠폰에 쿠폰 정책(할인율, 최대 할인 금액, 만료일)을 붙여 둔 지갑 항목
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Getter
+public class WalletCoupon {
+    private Long couponId;
+    private int discountRate;
+    private int maxDiscountAmount;
+    private LocalDateTime expirationAt;
+
+    public boolean isUsableAt(LocalDateTime now) {
+        return expirationAt.isAfter(now);
+    }
+
+    public int calculateDiscountAmount(int orderAmount) {
+        return CouponPolicy.discountOf(orderAmount, discountRate, maxDiscountAmount);
+    }
+}
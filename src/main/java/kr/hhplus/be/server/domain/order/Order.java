@@ -1,9 +1,11 @@
 package kr.hhplus.be.server.domain.order;
 
 import jakarta.persistence.*;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidId;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -12,13 +14,17 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "orders")  // "order"는 예약어이므로 테이블명 변경
+@Table(name = "orders",  // "order"는 예약어이므로 테이블명 변경
+        indexes = {
+                @Index(name = "idx_orders_user_id_id", columnList = "userId, id"),
+                @Index(name = "idx_orders_status_created_at_id", columnList = "status, createdAt, id")
+        })
 @AllArgsConstructor
 @Builder
-public class Order {
+public class Order implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     private Long userId;
@@ -36,12 +42,37 @@ public class Order {
     @Transient
     private List<OrderItem> items = new ArrayList<>();
 
+    // 미리 정한 ID로 만든 주문도 merge 전 SELECT 없이 바로 INSERT 되게 한다.
+    @Transient
+    private boolean assignedId;
+
     public Order(Long userId) {
         this.userId = userId;
         this.status = OrderStatus.PENDING;
         this.totalAmount = 0;
     }
 
+    /**
+     * ID를 먼저 정해 둔 주문. 주문을 저장하기 전에 그 ID로 재고를 예약할 때 쓴다.
+     */
+    public static Order withId(Long id, Long userId) {
+        Order order = new Order(userId);
+        order.id = id;
+        order.assignedId = true;
+        return order;
+    }
+
+    @Override
+    public boolean isNew() {
+        return id == null || assignedId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.assignedId = false;
+    }
+
     public void addLine(Long productId, int quantity, int orderPrice) {
         if (productId == null)      throw new IllegalArgumentException("상품 정보가 잘못 입력되었습니다.");
         if (quantity <= 0)          throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
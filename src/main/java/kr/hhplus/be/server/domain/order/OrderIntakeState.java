@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.domain.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기로 접수한 주문 요청의 처리 상태. 주문이 만들어지면 주문 ID를, 실패하면 사유를 담는다.
+@Getter
+@AllArgsConstructor
+public class OrderIntakeState {
+    private final String trackingId;
+    private final OrderIntakeStatus status;
+    private final Long orderId;
+    private final String reason;
+
+    public static OrderIntakeState accepted(String trackingId) {
+        return new OrderIntakeState(trackingId, OrderIntakeStatus.ACCEPTED, null, null);
+    }
+
+    public static OrderIntakeState created(String trackingId, Long orderId) {
+        return new OrderIntakeState(trackingId, OrderIntakeStatus.CREATED, orderId, null);
+    }
+
+    public static OrderIntakeState failed(String trackingId, String reason) {
+        return new OrderIntakeState(trackingId, OrderIntakeStatus.FAILED, null, reason);
+    }
+}
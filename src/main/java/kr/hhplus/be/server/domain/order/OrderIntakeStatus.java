@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.order;
+
+public enum OrderIntakeStatus {
+    ACCEPTED,
+    CREATED,
+    FAILED;
+
+    public boolean isCompleted() {
+        return this != ACCEPTED;
+    }
+}
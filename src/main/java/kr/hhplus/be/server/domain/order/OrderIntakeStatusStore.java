@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.domain.order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface OrderIntakeStatusStore {
+    void save(OrderIntakeState state);
+    void saveAll(List<OrderIntakeState> states);
+    Optional<OrderIntakeState> find(String trackingId);
+    // 재전달된 요청을 거르기 위해 이미 처리가 끝난 추적 ID만 돌려준다.
+    Set<String> findCompleted(Collection<String> trackingIds);
+    // 추적 ID마다 처음 넘긴 주문 ID를 남기고, 이미 남아 있으면 그 값을 돌려준다. 재전달된 요청도 같은 주문 ID를 쓴다.
+    Map<String, Long> assignOrderIds(Map<String, Long> candidates);
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.domain.order;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * orders/order_item 월 파티션 관리. 두 테이블은 같은 달 경계로 나뉘어 있고 항상 함께 바뀐다.
+ */
+public interface OrderPartitionRepository {
+
+    boolean isPartitioned();
+
+    // 오래된 달부터 정렬된 월 파티션 목록 (MAXVALUE 파티션 제외)
+    List<YearMonth> findPartitionMonths();
+
+    // 마지막 월 파티션 다음 달을 추가한다.
+    void addPartition(YearMonth month);
+
+    Optional<LocalDateTime> findLatestOrderedAt(YearMonth month);
+
+    /**
+     * 해당 달 파티션의 행을 보관 테이블로 옮기고 파티션을 지운다. 옮긴 주문 행 수를 돌려준다.
+     * 중간에 실패해도 다시 실행하면 이어서 끝낸다.
+     */
+    long archive(YearMonth month);
+}
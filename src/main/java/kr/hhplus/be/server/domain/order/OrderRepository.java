@@ -1,12 +1,15 @@
 package kr.hhplus.be.server.domain.order;
 
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,25 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserId(Long userId);
 
+    @Query("select o.id from Order o where o.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select o from Order o where o.status = :status and o.createdAt < :cutoff order by o.createdAt, o.id")
+    List<Order> findStale(@Param("status") OrderStatus status, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("select o from Order o where o.status = :status and o.createdAt < :cutoff " +
+            "and (o.createdAt > :lastCreatedAt or (o.createdAt = :lastCreatedAt and o.id > :lastId)) " +
+            "order by o.createdAt, o.id")
+    List<Order> findStaleAfter(@Param("status") OrderStatus status,
+                               @Param("cutoff") LocalDateTime cutoff,
+                               @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                               @Param("lastId") Long lastId,
+                               Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.id in :ids and o.status = :status")
+    List<Order> findAllByIdInAndStatusForUpdate(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select o from Order o where o.id = :id")
     Optional<Order> findByIdForUpdate(@Param("id") Long id);
@@ -1,10 +1,19 @@
 package kr.hhplus.be.server.domain.order;
 
+import kr.hhplus.be.server.domain.order.event.OrderCanceledEvent;
+import kr.hhplus.be.server.domain.order.event.OrderCreatedEvent;
+import kr.hhplus.be.server.domain.order.event.OrderEventPublisher;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 @RequiredArgsConstructor
@@ -13,16 +22,39 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderEventPublisher orderEventPublisher;
 
     public Order create(Long userId, List<OrderLine> lines) {
+        return create(new Order(userId), lines);
+    }
+
+    // 재고 예약을 먼저 하고 그 ID로 주문을 저장할 때 쓴다. ID는 주문 ID 생성기와 같은 규칙을 따른다.
+    public Long nextOrderId() {
+        return TsidGenerator.getDefault().next();
+    }
+
+    // 미리 정한 ID 중 이미 저장된 주문 ID만 돌려준다.
+    public Set<Long> findExistingOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(orderRepository.findIdsByIdIn(orderIds));
+    }
+
+    public Order createWithId(Long orderId, Long userId, List<OrderLine> lines) {
+        return create(Order.withId(orderId, userId), lines);
+    }
+
+    private Order create(Order order, List<OrderLine> lines) {
         if (lines == null || lines.isEmpty()) {
             throw new IllegalArgumentException("주문 항목이 비어 있습니다.");
         }
-        Order order = new Order(userId);
         for (OrderLine line : lines) {
             order.addLine(line.getProductId(), line.getQuantity(), line.getOrderPrice());
         }
-        return save(order);
+        Order saved = save(order);
+        orderEventPublisher.publishOrderCreated(new OrderCreatedEvent(saved));
+        return saved;
     }
 
     public List<Order> getAllOrders() {
@@ -39,7 +71,9 @@ public class OrderService {
     public Order cancel(Long orderId) {
         Order order = getOrderOrThrowCancel(orderId);
         order.cancel();
-        return save(order);
+        Order saved = save(order);
+        orderEventPublisher.publishOrderCanceled(new OrderCanceledEvent(List.of(orderId)));
+        return saved;
     }
 
     public Order updateOrderItems(Long orderId, List<OrderItem> newItems) {
@@ -68,6 +102,36 @@ public class OrderService {
         return byUserId;
     }
 
+    /**
+     * cutoff 이전에 만들어진 PENDING 주문을 (status, created_at, id) 순으로 size건 읽는다.
+     * 첫 조각은 lastCreatedAt을 null로 넘기고, 이후에는 직전 조각 마지막 주문의 값을 넘긴다.
+     */
+    public List<Order> getStalePendingOrders(LocalDateTime cutoff, LocalDateTime lastCreatedAt, Long lastId, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (lastCreatedAt == null) {
+            return orderRepository.findStale(OrderStatus.PENDING, cutoff, page);
+        }
+        return orderRepository.findStaleAfter(OrderStatus.PENDING, cutoff, lastCreatedAt, lastId, page);
+    }
+
+    /**
+     * 아직 PENDING인 주문만 잠가서 한 트랜잭션으로 취소하고, 실제로 취소한 주문 ID를 돌려준다.
+     * 잠근 사이 결제된 주문은 빠지고, 변경은 커밋 시 배치 UPDATE로 나간다.
+     */
+    @Transactional
+    public List<Long> cancelPendingOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<Order> orders = orderRepository.findAllByIdInAndStatusForUpdate(orderIds, OrderStatus.PENDING);
+        orders.forEach(Order::cancel);
+        List<Long> canceledIds = orders.stream().map(Order::getId).toList();
+        if (!canceledIds.isEmpty()) {
+            orderEventPublisher.publishOrderCanceled(new OrderCanceledEvent(canceledIds));
+        }
+        return canceledIds;
+    }
+
     @Transactional
     public Order getOrderOrThrowCancel(Long orderId) {
         Order order = orderRepository.findByIdForUpdate(orderId).orElseThrow(() ->
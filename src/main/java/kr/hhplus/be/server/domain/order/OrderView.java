@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.domain.order;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이력 조회용 읽기 모델. 주문 한 건을 항목까지 한 행에 담아 orders/order_item 조인 없이 읽는다.
+ * 주문 생성·취소 이벤트와 결제 완료 이벤트로만 갱신한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_view",
+        indexes = @Index(name = "idx_order_view_user_id_order_id", columnList = "userId, orderId"))
+public class OrderView implements Persistable<Long> {
+
+    @Id
+    private Long orderId;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private int totalAmount;
+
+    private Integer paidAmount;
+
+    private Long couponId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<OrderViewItem> items = new ArrayList<>();
+
+    private LocalDateTime orderedAt;
+
+    private LocalDateTime paidAt;
+
+    // 주문 ID를 그대로 쓰므로, 새로 만든 행은 merge 전 SELECT 없이 바로 INSERT 되게 한다.
+    @Transient
+    private boolean newView;
+
+    public static OrderView from(Order order) {
+        OrderView view = new OrderView();
+        view.orderId = order.getId();
+        view.userId = order.getUserId();
+        view.status = order.getStatus();
+        view.totalAmount = order.getTotalAmount();
+        view.items = order.getItems().stream()
+                .map(i -> new OrderViewItem(i.getProductId(), i.getQuantity(), i.getOrderPrice()))
+                .toList();
+        view.orderedAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        view.newView = true;
+        return view;
+    }
+
+    public List<OrderViewItem> getItems() {
+        return items != null ? items : List.of();
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newView;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.newView = false;
+    }
+}
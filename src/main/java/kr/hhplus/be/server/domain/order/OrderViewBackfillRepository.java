@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.domain.order;
+
+import java.util.List;
+
+public interface OrderViewBackfillRepository {
+
+    List<Long> findOrderIdsAfter(long lastOrderId, int limit);
+
+    /**
+     * (fromExclusive, toInclusive] 범위 주문 중 읽기 모델이 없는 주문을 원본 테이블에서 채운다.
+     */
+    int backfill(long fromExclusive, long toInclusive);
+
+    /**
+     * 백필을 마친 마지막 주문 ID. 한 번도 돌지 않았으면 0이다.
+     */
+    long findBackfilledUntil();
+
+    void saveBackfilledUntil(long orderId);
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderViewItem {
+    private Long productId;
+    private int quantity;
+    private int itemPrice;
+}
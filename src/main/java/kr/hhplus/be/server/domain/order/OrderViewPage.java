@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.domain.order;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderViewPage {
+
+    private final List<OrderView> views;
+    // 다음 페이지가 없으면 null
+    private final Long nextCursor;
+
+    public OrderViewPage(List<OrderView> views, Long nextCursor) {
+        this.views = views;
+        this.nextCursor = nextCursor;
+    }
+}
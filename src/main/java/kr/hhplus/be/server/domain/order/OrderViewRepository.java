@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.domain.order;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    @Query("select v from OrderView v where v.userId = :userId and v.orderId < :cursor order by v.orderId desc")
+    List<OrderView> findPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("update OrderView v set v.status = :to where v.orderId in :orderIds and v.status = :from")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("from") OrderStatus from,
+                     @Param("to") OrderStatus to);
+
+    @Modifying
+    @Query("update OrderView v set v.status = :paid, v.paidAmount = :paidAmount, v.couponId = :couponId, v.paidAt = :paidAt " +
+            "where v.orderId = :orderId and v.status = :pending")
+    int markPaid(@Param("orderId") Long orderId,
+                 @Param("paidAmount") int paidAmount,
+                 @Param("couponId") Long couponId,
+                 @Param("paidAt") LocalDateTime paidAt,
+                 @Param("pending") OrderStatus pending,
+                 @Param("paid") OrderStatus paid);
+}
@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.domain.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class OrderViewService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderViewRepository orderViewRepository;
+
+    public void created(Order order) {
+        orderViewRepository.save(OrderView.from(order));
+    }
+
+    // 상태 조건으로 이미 반영된 이벤트나 순서가 뒤바뀐 이벤트는 아무것도 바꾸지 않는다.
+    @Transactional
+    public int canceled(Collection<Long> orderIds) {
+        return orderViewRepository.updateStatus(orderIds, OrderStatus.PENDING, OrderStatus.CANCEL);
+    }
+
+    @Transactional
+    public boolean paid(Long orderId, int paidAmount, Long couponId, LocalDateTime paidAt) {
+        return orderViewRepository.markPaid(orderId, paidAmount, couponId, paidAt,
+                OrderStatus.PENDING, OrderStatus.PAID) > 0;
+    }
+
+    /**
+     * (user_id, order_id) 인덱스 범위를 order_id 내림차순으로 한 번 읽어 한 페이지를 만든다.
+     */
+    @Transactional(readOnly = true)
+    public OrderViewPage getHistory(Long userId, Long cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        // 한 건 더 읽어 다음 페이지가 있는지 판단한다.
+        List<OrderView> fetched = orderViewRepository.findPageByUserId(
+                userId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+        if (cursor == null && fetched.isEmpty()) {
+            throw new IllegalArgumentException("해당 유저가 없거나 주문 목록이 없습니다.");
+        }
+        boolean hasNext = fetched.size() > size;
+        List<OrderView> views = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? views.get(views.size() - 1).getOrderId() : null;
+        return new OrderViewPage(views, nextCursor);
+    }
+}
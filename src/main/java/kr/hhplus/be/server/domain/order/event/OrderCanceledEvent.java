@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.order.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderCanceledEvent {
+    private final List<Long> orderIds;
+
+    public OrderCanceledEvent(List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+}
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.order.event;
+
+import kr.hhplus.be.server.domain.order.Order;
+import lombok.Getter;
+
+@Getter
+public class OrderCreatedEvent {
+    private final Order order;
+
+    public OrderCreatedEvent(Order order) {
+        this.order = order;
+    }
+}
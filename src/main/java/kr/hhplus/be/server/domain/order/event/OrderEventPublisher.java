@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.domain.order.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderEventPublisher {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publishOrderCreated(OrderCreatedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
+    public void publishOrderCanceled(OrderCanceledEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.domain.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Getter
+public class OrderRequestedMessage {
+    private String trackingId;
+    private Long userId;
+    private List<Item> items;
+
+    @NoArgsConstructor(force = true)
+    @AllArgsConstructor
+    @Getter
+    public static class Item {
+        private Long productId;
+        private int quantity;
+    }
+}
@@ -0,0 +1,5 @@
+package kr.hhplus.be.server.domain.order.event;
+
+public interface OrderRequestedProducer {
+    void send(OrderRequestedMessage message);
+}
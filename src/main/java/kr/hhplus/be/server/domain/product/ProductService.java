@@ -6,11 +6,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Service
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductStockReservation productStockReservation;
 
     @Transactional
     public Product getProductForUpdate(long productId) {
@@ -23,6 +30,27 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. productId=" + productId));
     }
 
+    // 상품 수와 관계없이 IN 조회 한 번으로 읽는다. 없는 상품이 하나라도 있으면 실패한다.
+    public ProductSnapshot getSnapshot(Collection<Long> productIds) {
+        Map<Long, Product> products = productRepository.findAllByIdIn(productIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        productIds.stream()
+                .filter(productId -> !products.containsKey(productId))
+                .findFirst()
+                .ifPresent(productId -> {
+                    throw new IllegalArgumentException("상품을 찾을 수 없습니다. productId=" + productId);
+                });
+        return new ProductSnapshot(products);
+    }
+
+    // 없는 상품이 있어도 실패하지 않는다. 없는 상품은 스냅샷에서 꺼낼 때 실패한다.
+    public ProductSnapshot findSnapshot(Collection<Long> productIds) {
+        return new ProductSnapshot(productRepository.findAllByIdIn(productIds.stream().distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity())));
+    }
+
     public Page<Product> getProducts(Pageable pageable) {
         return productRepository.findAll(pageable);
     }
@@ -31,14 +59,28 @@ public class ProductService {
     public Product decreaseStock(long productId, int decreaseQuantity) {
         Product product = getProductForUpdate(productId);
         product.decreaseStock(decreaseQuantity);
+        productStockReservation.adjust(Map.of(productId, -decreaseQuantity));
 
         return productRepository.save(product);
     }
 
+    // Redis 예약으로 이미 수량이 확보된 주문을 MySQL에 반영한다. 행을 먼저 읽어 잠그지 않고 조건부 UPDATE 한 번으로 차감하며,
+    // 교착을 피하도록 상품 ID 순으로 갱신한다. 조건이 맞지 않는 건 예약 밖에서 재고가 바뀐 경우뿐이다.
+    @Transactional
+    public void decreaseReservedStocks(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            if (productRepository.decreaseStockIfEnough(productId, quantity) == 0) {
+                throw new IllegalStateException("재고가 부족합니다. productId=" + productId);
+            }
+        });
+    }
+
+    // 예약 밖에서 바뀐 DB 재고는 커밋 뒤 Redis 가용 재고에도 반영해야 주문 예약이 같은 수량을 본다.
     @Transactional
     public Product increaseStock(long productId, int increaseQuantity) {
         Product product = getProductForUpdate(productId);
         product.increaseStock(increaseQuantity);
+        productStockReservation.adjust(Map.of(productId, increaseQuantity));
 
         return productRepository.save(product);
     }
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.domain.product;
+
+import java.util.Map;
+
+// 주문 한 건에 필요한 상품을 IN 조회 한 번으로 읽어 둔 스냅샷. 재고 확인과 가격 강제가 같은 값을 본다.
+public class ProductSnapshot {
+
+    private final Map<Long, Product> products;
+
+    public ProductSnapshot(Map<Long, Product> products) {
+        this.products = Map.copyOf(products);
+    }
+
+    public Product get(Long productId) {
+        Product product = products.get(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다. productId=" + productId);
+        }
+        return product;
+    }
+
+    public void checkStock(Long productId, int requiredQuantity) {
+        if (get(productId).getStock() < requiredQuantity) {
+            throw new IllegalStateException("상품 재고가 부족합니다. productId=" + productId);
+        }
+    }
+
+    public int priceOf(Long productId) {
+        return get(productId).getPrice();
+    }
+}
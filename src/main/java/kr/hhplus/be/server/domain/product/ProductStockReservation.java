@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.product;
+
+import java.util.Map;
+
+public interface ProductStockReservation {
+    void reserve(Long orderId, Map<Long, Integer> quantities);
+    boolean claim(Long orderId);
+    void release(Long orderId);
+    int releaseExpired(int limit);
+    void adjust(Map<Long, Integer> changes);
+}
@@ -3,6 +3,10 @@ package kr.hhplus.be.server.domain.user;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Service
 public class UserPointService {
@@ -34,6 +38,20 @@ public class UserPointService {
         return getUserOrThrow(userId).getPoint();
     }
 
+    // 존재 여부만 필요한 곳에서는 행 잠금을 잡지 않는다.
+    public void checkUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("유저를 찾을수 없습니다.");
+        }
+    }
+
+    // 여러 사용자의 존재 여부를 IN 조회 한 번으로 확인한다.
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+    }
+
     public User getUserOrThrow(long userId) {
         return userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을수 없습니다."));
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.infrastructure.cart;
+
+import kr.hhplus.be.server.domain.cart.CartItem;
+import kr.hhplus.be.server.domain.cart.CartRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 장바구니를 Redis 해시(cart:{userId}, 필드 상품 ID, 값 수량) 하나로 둔다.
+ * 상품 한 건의 추가·변경·삭제는 필드 하나만 건드리고, 쓸 때마다 만료 시간을 다시 잡는다.
+ */
+@Component
+public class RedisCartRepository implements CartRepository {
+
+    private static final String CART_KEY = "cart:%d";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisCartRepository(RedisTemplate<String, String> redisTemplate,
+                               @Value("${cart.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    public int increase(Long userId, Long productId, int quantity) {
+        String key = key(userId);
+        Long total = hash().increment(key, productId.toString(), quantity);
+        redisTemplate.expire(key, ttl);
+        return total.intValue();
+    }
+
+    @Override
+    public void set(Long userId, Long productId, int quantity) {
+        String key = key(userId);
+        hash().put(key, productId.toString(), String.valueOf(quantity));
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public boolean remove(Long userId, Long productId) {
+        return hash().delete(key(userId), productId.toString()) > 0;
+    }
+
+    @Override
+    public void removeAll(Long userId, Collection<Long> productIds) {
+        hash().delete(key(userId), productIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 담은 순서는 보관하지 않으므로 상품 ID 순으로 돌려준다.
+    @Override
+    public List<CartItem> findAll(Long userId) {
+        Map<String, String> entries = hash().entries(key(userId));
+        return entries.entrySet().stream()
+                .map(e -> new CartItem(Long.valueOf(e.getKey()), Integer.parseInt(e.getValue())))
+                .filter(item -> item.getQuantity() > 0)
+                .sorted(Comparator.comparing(CartItem::getProductId))
+                .toList();
+    }
+
+    @Override
+    public long countItems(Long userId) {
+        return hash().size(key(userId));
+    }
+
+    @Override
+    public boolean contains(Long userId, Long productId) {
+        return hash().hasKey(key(userId), productId.toString());
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String key(Long userId) {
+        return String.format(CART_KEY, userId);
+    }
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.infrastructure.idempotency.IdempotencyFilter;
+import kr.hhplus.be.server.infrastructure.idempotency.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(
+                idempotencyStore, objectMapper, Duration.ofMillis(waitTimeoutMs), Duration.ofMillis(pollIntervalMs)));
+        registration.addUrlPatterns("/orders", "/payments/*", "/cart/*");  // 실제 대상 메서드/경로는 필터가 다시 거른다
+        return registration;
+    }
+}
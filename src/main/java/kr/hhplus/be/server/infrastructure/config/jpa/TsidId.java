@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.config.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * IDENTITY 대신 {@link TsidGenerator}로 ID를 채운다.
+ * 쓰기가 많은 엔티티에 붙여 saveAll 같은 여러 건 저장을 배치 INSERT 한 번으로 보낸다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
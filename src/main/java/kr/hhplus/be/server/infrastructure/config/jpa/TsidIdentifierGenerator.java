@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.infrastructure.config.jpa;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidGenerator.getDefault().next();
+    }
+
+    // 같은 생성기로 미리 정해 둔 ID가 있으면 그대로 쓴다 (Order.withId).
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return currentValue != null ? currentValue : generate(session, owner);
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
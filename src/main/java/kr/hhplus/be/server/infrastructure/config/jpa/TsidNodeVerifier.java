@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.infrastructure.config.jpa;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬, 테스트 외 환경에서 TSID 노드 번호를 정하지 않으면 기동을 멈춘다.
+ * 호스트 이름 해시는 1024칸이라 노드가 여러 대면 같은 번호를 쓰게 되고, 같은 밀리초에 같은 PK를 만든다.
+ */
+@Component
+public class TsidNodeVerifier {
+
+    public TsidNodeVerifier(Environment environment) {
+        if (!environment.acceptsProfiles(Profiles.of("local", "test")) && !TsidGenerator.isNodeConfigured()) {
+            throw new IllegalStateException(
+                    "TSID 노드 번호가 없습니다. 노드마다 다른 -Dtsid.node 또는 TSID_NODE(0~" + TsidGenerator.MAX_NODE + ")를 지정하세요.");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.infrastructure.config.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // 파티션 수가 기존 토픽보다 크면 KafkaAdmin이 기동 시 파티션을 늘린다. 줄이지는 않는다.
+    // 설정했을 때만 등록해 브로커 없이 띄우는 환경에서 기동 시 관리 클라이언트가 기다리지 않게 한다.
+    @Bean
+    @ConditionalOnProperty("topic.coupon-issued-partitions")
+    public NewTopic couponIssuedTopic(@Value("${topic.coupon-issued}") String topic,
+                                      @Value("${topic.coupon-issued-partitions}") int partitions) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .build();
+    }
+}
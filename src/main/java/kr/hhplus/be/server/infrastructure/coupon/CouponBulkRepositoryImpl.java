@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponBulkRepositoryImpl implements CouponBulkRepository {
+
+    // Coupon.updateLimitCount와 같은 규칙으로 상태를 정하고, 값이 그대로인 쿠폰은 건드리지 않는다.
+    private static final String UPDATE_LIMIT_COUNT_SQL = """
+            UPDATE coupon
+               SET limit_count = ?,
+                   status = CASE WHEN issued_count >= ? THEN 'EXPIRED' ELSE 'ACTIVE' END
+             WHERE id = ?
+               AND status = 'ACTIVE'
+               AND limit_count <> ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int updateLimitCounts(Map<Long, Integer> remainingByCouponId) {
+        if (remainingByCouponId.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(remainingByCouponId.size());
+        remainingByCouponId.forEach((couponId, remaining) ->
+                args.add(new Object[]{remaining, remaining, couponId, remaining}));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_LIMIT_COUNT_SQL, args);
+        return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -0,0 +1,57 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고가 바뀐 쿠폰 ID를 노드 안에 모아 두었다가 수량 동기화 직전에 변경 집합으로 한 번에 기록한다.
+ * 발급 스크립트가 변경 집합에 직접 쓰면 모든 발급이 한 키로 몰리고, 클러스터에서는 쿠폰 키와 슬롯이 달라 한 스크립트에 담을 수 없다.
+ */
+@Component
+class CouponInventoryChanges {
+
+    static final String CHANGED_KEY = "coupon:inventory:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    CouponInventoryChanges(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    void mark(Long couponId) {
+        pending.add(couponId);
+    }
+
+    void flush() {
+        List<String> couponIds = new ArrayList<>();
+        for (Long couponId : pending) {
+            if (pending.remove(couponId)) {
+                couponIds.add(couponId.toString());
+            }
+        }
+        add(couponIds);
+    }
+
+    // 동기화에 실패해 되돌리는 쿠폰은 다음 실행에서 어느 노드든 다시 꺼내도록 모으지 않고 바로 기록한다.
+    void add(Collection<String> couponIds) {
+        if (!couponIds.isEmpty()) {
+            redisTemplate.opsForSet().add(CHANGED_KEY, couponIds.toArray(String[]::new));
+        }
+    }
+
+    List<Long> pop(int count) {
+        flush();
+        List<String> popped = redisTemplate.opsForSet().pop(CHANGED_KEY, count);
+        if (popped == null) {
+            return List.of();
+        }
+        return popped.stream().map(Long::valueOf).toList();
+    }
+}
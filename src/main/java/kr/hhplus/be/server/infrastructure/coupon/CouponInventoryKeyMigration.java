@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 해시 태그가 없던 coupon:123:inventory 형식의 옛 키를 coupon:{123}:inventory 형식으로 옮긴다.
+ * 웹 요청과 Kafka 소비가 시작되기 전에 끝나야 발급이 옛 키를 못 찾아 마감으로 판정하지 않으므로 빈 초기화 직후에 실행한다.
+ * RENAMENX라 여러 노드가 동시에 실행하거나 다시 실행해도 이미 옮긴 키를 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class CouponInventoryKeyMigration implements SmartInitializingSingleton {
+
+    private static final List<String> LEGACY_KEYS = List.of(
+            "coupon:%d:inventory", "coupon:%d:issued_users", "coupon:%d:meta");
+    private static final List<String> KEYS = List.of(
+            CouponInventoryReader.INVENTORY_KEY, CouponInventoryReader.ISSUED_USERS_KEY, CouponInventoryReader.META_KEY);
+
+    private final CouponRepository couponRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int migrated = 0;
+        for (Coupon coupon : couponRepository.findActiveCouponsExpiringAfter(LocalDateTime.now())) {
+            for (int i = 0; i < KEYS.size(); i++) {
+                if (rename(String.format(LEGACY_KEYS.get(i), coupon.getId()), String.format(KEYS.get(i), coupon.getId()))) {
+                    migrated++;
+                }
+            }
+        }
+        if (migrated > 0) {
+            log.info("쿠폰 재고 키를 해시 태그 형식으로 옮겼습니다: keys={}", migrated);
+        }
+    }
+
+    // 다른 노드가 먼저 옮겨 옛 키가 사라졌으면 RENAMENX가 오류를 내므로 건너뛴다.
+    private boolean rename(String legacyKey, String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(legacyKey))
+                    && Boolean.TRUE.equals(redisTemplate.renameIfAbsent(legacyKey, key));
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 재고 키를 옮기지 못했습니다: key={}", legacyKey, e);
+            return false;
+        }
+    }
+}
@@ -1,66 +1,257 @@
 package kr.hhplus.be.server.infrastructure.coupon;
 
 import kr.hhplus.be.server.domain.coupon.CouponIssuanceClosedException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
 import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutRegistry;
 import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
+import kr.hhplus.be.server.domain.coupon.IssuedUserTracking;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 @Component
 public class CouponInventoryReader implements kr.hhplus.be.server.domain.coupon.CouponInventoryReader {
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String INVENTORY_KEY = "coupon:%d:inventory";
-    private static final String ISSUED_USERS_KEY = "coupon:%d:issued_users";
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final IssueMode issueMode;
+    private final InventoryType inventoryType;
+    private final int bitmapThreshold;
+    private final ShardedCouponInventory shardedCouponInventory;
+    private final CouponInventoryChanges couponInventoryChanges;
+    private final int defaultShardCount;
+    private final long shardCacheTtlMillis;
+    private final Map<Long, CachedMeta> metas = new ConcurrentHashMap<>();
+    // 없는 쿠폰 ID로 요청이 쏟아져도 노드 메모리가 늘지 않도록 캐시할 쿠폰 수를 제한한다.
+    private static final int MAX_CACHED_METAS = 10_000;
+    // 한 쿠폰의 키는 해시 태그로 같은 슬롯에 모아 클러스터에서도 스크립트 하나로 다룬다.
+    static final String INVENTORY_KEY = "coupon:{%d}:inventory";
+    static final String ISSUED_USERS_KEY = "coupon:{%d}:issued_users";
+    static final String META_KEY = "coupon:{%d}:meta";
+    private static final String ISSUED_TRACKING_FIELD = "issued";
+    private static final String SHARDS_FIELD = "shards";
+    private static final String LIMIT_FIELD = "limit";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-issue.lua"), List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-release.lua"), Long.class);
+    private static final RedisScript<Long> REMAINING_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-remaining.lua"), Long.class);
 
-    public CouponInventoryReader(RedisTemplate<String, String> redisTemplate) {
+    public CouponInventoryReader(RedisTemplate<String, String> redisTemplate,
+                                 CouponSoldOutRegistry couponSoldOutRegistry,
+                                 @Value("${coupon.inventory.issue-mode:SCRIPT}") IssueMode issueMode,
+                                 @Value("${coupon.inventory.type:COUNTER}") InventoryType inventoryType,
+                                 @Value("${coupon.inventory.bitmap-threshold:100000}") int bitmapThreshold,
+                                 ShardedCouponInventory shardedCouponInventory,
+                                 CouponInventoryChanges couponInventoryChanges,
+                                 @Value("${coupon.inventory.shard-count:1}") int shardCount,
+                                 @Value("${coupon.inventory.shard-cache-ttl-seconds:600}") long shardCacheTtlSeconds) {
         this.redisTemplate = redisTemplate;
+        this.couponSoldOutRegistry = couponSoldOutRegistry;
+        this.issueMode = issueMode;
+        this.inventoryType = inventoryType;
+        this.bitmapThreshold = bitmapThreshold;
+        this.shardedCouponInventory = shardedCouponInventory;
+        this.couponInventoryChanges = couponInventoryChanges;
+        this.defaultShardCount = shardCount;
+        this.shardCacheTtlMillis = shardCacheTtlSeconds * 1000;
     }
 
     @Override
     public void initialize(Long couponId, int limitCount, LocalDateTime expirationAt) {
+        IssuedUserTracking tracking = limitCount >= bitmapThreshold ? IssuedUserTracking.BITMAP : IssuedUserTracking.SET;
+        initialize(couponId, limitCount, expirationAt, tracking);
+    }
+
+    @Override
+    public void initialize(Long couponId, int limitCount, LocalDateTime expirationAt, IssuedUserTracking issuedUserTracking) {
         final String inventoryKey = String.format(INVENTORY_KEY, couponId);
         final String issuedUsersKey = String.format(ISSUED_USERS_KEY, couponId);
+        final String metaKey = String.format(META_KEY, couponId);
         final Duration ttl = Duration.between(LocalDateTime.now(), expirationAt);
 
-        redisTemplate.delete(inventoryKey);
-        redisTemplate.delete(issuedUsersKey);
-        for (int i = 0; i < limitCount; i++) {
-            redisTemplate.opsForList().leftPush(inventoryKey, String.valueOf(i));
+        redisTemplate.delete(List.of(inventoryKey, issuedUsersKey, metaKey));
+        couponSoldOutRegistry.clear(couponId);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        // 샤드는 카운터 재고에서만 쓰며, 샤드마다 최소 1장은 돌아가도록 수량이 샤드 수보다 적으면 나누지 않는다.
+        int shards = inventoryType == InventoryType.COUNTER && limitCount >= defaultShardCount
+                ? Math.max(defaultShardCount, 1) : 1;
+        // MySQL의 limit_count는 동기화 때마다 남은 수량으로 바뀌므로 발급 한도는 meta에 따로 남긴다.
+        redisTemplate.opsForHash().putAll(metaKey, Map.of(
+                ISSUED_TRACKING_FIELD, issuedUserTracking.name(),
+                SHARDS_FIELD, String.valueOf(shards),
+                LIMIT_FIELD, String.valueOf(limitCount)));
+        redisTemplate.expire(metaKey, ttl);
+        cacheMeta(couponId, shards, limitCount, Math.min(ttl.toMillis(), shardCacheTtlMillis));
+        if (shards > 1) {
+            shardedCouponInventory.initialize(couponId, limitCount, ttl, issuedUserTracking, shards);
+            return;
+        }
+        if (inventoryType == InventoryType.COUNTER) {
+            // 수량과 무관하게 정수 하나만 저장하므로 생성 비용과 메모리가 O(1)이다.
+            redisTemplate.opsForValue().set(inventoryKey, String.valueOf(limitCount), ttl);
+            return;
+        }
+        if (limitCount > 0) {
+            List<String> tokens = IntStream.range(0, limitCount).mapToObj(String::valueOf).toList();
+            redisTemplate.opsForList().leftPushAll(inventoryKey, tokens);
         }
         redisTemplate.expire(inventoryKey, ttl);
-        redisTemplate.expire(issuedUsersKey, ttl);
     }
 
     @Override
     public boolean issue(Long couponId, Long userId) {
+        // 이미 소진/마감이 확인된 쿠폰은 Redis까지 가지 않고 노드 안에서 거절한다.
+        couponSoldOutRegistry.checkIssuable(couponId);
+        int shards = shardCount(couponId);
+        if (shards > 1) {
+            // 샤드 하나의 매진은 쿠폰 매진이 아니므로 알림은 모든 샤드를 확인한 ShardedCouponInventory가 보낸다.
+            shardedCouponInventory.issue(couponId, userId, shards).throwIfFailed();
+            return true;
+        }
+        if (issueMode == IssueMode.TRANSACTION) {
+            return issueWithTransaction(couponId, userId);
+        }
+        // 마감/중복/매진 검사와 차감을 Lua 스크립트 한 번으로 처리해 요청당 왕복을 1회로 줄인다.
+        List<?> codes = redisTemplate.execute(ISSUE_SCRIPT, keys(couponId), userId.toString());
+        CouponIssueResult result = CouponIssueResult.of(((Number) codes.get(0)).longValue());
+        couponSoldOutRegistry.markExhausted(couponId, result);
+        result.throwIfFailed();
+        couponInventoryChanges.mark(couponId);
+        return true;
+    }
+
+    @Override
+    public List<CouponIssueResult> issueAll(List<CouponIssuedMessage> messages) {
+        CouponIssueResult[] results = new CouponIssueResult[messages.size()];
+        Map<Long, List<Integer>> pending = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Long couponId = messages.get(i).getCouponId();
+            CouponIssueResult status = couponSoldOutRegistry.status(couponId);
+            int shards = status.isExhausted() ? 1 : shardCount(couponId);
+            if (status.isExhausted()) {
+                results[i] = status;
+            } else if (shards > 1) {
+                // 샤드 쿠폰은 샤드마다 슬롯이 달라 한 스크립트로 묶을 수 없으므로 건별로 처리한다.
+                results[i] = shardedCouponInventory.issue(couponId, messages.get(i).getUserId(), shards);
+            } else {
+                pending.computeIfAbsent(couponId, id -> new ArrayList<>()).add(i);
+            }
+        }
+        if (pending.isEmpty()) {
+            return Arrays.asList(results);
+        }
+        if (issueMode == IssueMode.TRANSACTION) {
+            pending.values().forEach(indexes -> indexes.forEach(i -> results[i] = issueOne(messages.get(i))));
+            return Arrays.asList(results);
+        }
+
+        // 쿠폰마다 슬롯이 다르므로 쿠폰별로 묶어 스크립트 한 번씩 판정한다. 요청 순서대로 처리되므로 같은 배치 안의 중복도 걸러진다.
+        pending.forEach((couponId, indexes) -> {
+            String[] userIds = indexes.stream()
+                    .map(i -> messages.get(i).getUserId().toString())
+                    .toArray(String[]::new);
+            List<?> codes = redisTemplate.execute(ISSUE_SCRIPT, keys(couponId), (Object[]) userIds);
+            for (int j = 0; j < indexes.size(); j++) {
+                CouponIssueResult result = CouponIssueResult.of(((Number) codes.get(j)).longValue());
+                couponSoldOutRegistry.markExhausted(couponId, result);
+                if (result == CouponIssueResult.ISSUED) {
+                    couponInventoryChanges.mark(couponId);
+                }
+                results[indexes.get(j)] = result;
+            }
+        });
+        return Arrays.asList(results);
+    }
+
+    private CouponIssueResult issueOne(CouponIssuedMessage message) {
+        try {
+            issueWithTransaction(message.getCouponId(), message.getUserId());
+            return CouponIssueResult.ISSUED;
+        } catch (CouponIssuanceClosedException e) {
+            return CouponIssueResult.CLOSED;
+        } catch (DuplicateCouponIssueException e) {
+            return CouponIssueResult.DUPLICATE;
+        } catch (CouponSoldOutException e) {
+            return CouponIssueResult.SOLD_OUT;
+        }
+    }
+
+    private boolean issueWithTransaction(Long couponId, Long userId) {
         return redisTemplate.execute(new SessionCallback<>() {
             @Override
             public Boolean execute(RedisOperations operations) {
                 String inventoryKey = String.format(INVENTORY_KEY, couponId);
                 String issuedUsersKey = String.format(ISSUED_USERS_KEY, couponId);
+                boolean bitmap = IssuedUserTracking.BITMAP.name()
+                        .equals(operations.opsForHash().get(String.format(META_KEY, couponId), ISSUED_TRACKING_FIELD));
 
-                if (!operations.hasKey(inventoryKey)) {
+                DataType type = operations.type(inventoryKey);
+                if (type == null || type == DataType.NONE) {
+                    couponSoldOutRegistry.markExhausted(couponId, CouponIssueResult.CLOSED);
                     throw new CouponIssuanceClosedException("발급이 종료된 쿠폰입니다.");
                 }
 
-                if (Boolean.TRUE.equals(operations.opsForSet().isMember(issuedUsersKey, userId.toString()))) {
+                Boolean issued = bitmap
+                        ? operations.opsForValue().getBit(issuedUsersKey, userId)
+                        : operations.opsForSet().isMember(issuedUsersKey, userId.toString());
+                if (Boolean.TRUE.equals(issued)) {
                     throw new DuplicateCouponIssueException("이미 발급받은 사용자입니다.");
                 }
                 operations.multi();
-                operations.opsForList().leftPop(inventoryKey);
-                operations.opsForSet().add(issuedUsersKey, userId.toString());
+                if (type == DataType.STRING) {
+                    operations.opsForValue().decrement(inventoryKey);
+                } else {
+                    operations.opsForList().leftPop(inventoryKey);
+                }
+                if (bitmap) {
+                    operations.opsForValue().setBit(issuedUsersKey, userId, true);
+                } else {
+                    operations.opsForSet().add(issuedUsersKey, userId.toString());
+                }
 
                 List<Object> results = operations.exec();
                 if (results.get(0) == null) {
+                    couponSoldOutRegistry.markExhausted(couponId, CouponIssueResult.SOLD_OUT);
+                    throw new CouponSoldOutException("재고가 소진되었습니다.");
+                }
+                if (results.get(0) instanceof Long left && left < 0) {
+                    // 카운터는 조건부 차감이 불가능하므로 음수로 내려간 만큼 되돌린다.
+                    redisTemplate.execute(RELEASE_SCRIPT, keys(couponId), userId.toString());
+                    couponSoldOutRegistry.markExhausted(couponId, CouponIssueResult.SOLD_OUT);
                     throw new CouponSoldOutException("재고가 소진되었습니다.");
                 }
 
+                couponInventoryChanges.mark(couponId);
                 return true;
             }
         });
@@ -68,9 +259,256 @@ public class CouponInventoryReader implements kr.hhplus.be.server.domain.coupon.
 
     @Override
     public void release(Long couponId, Long userId) {
-        String inventoryKey = String.format(INVENTORY_KEY, couponId);
-        String issuedUsersKey = String.format(ISSUED_USERS_KEY, couponId);
-        redisTemplate.opsForSet().remove(issuedUsersKey, userId.toString());
-        redisTemplate.opsForList().rightPush(inventoryKey, "0");
+        int shards = shardCount(couponId);
+        if (shards > 1) {
+            if (shardedCouponInventory.release(couponId, userId, shards)) {
+                couponSoldOutRegistry.clear(couponId);
+            }
+            return;
+        }
+        if (Long.valueOf(1L).equals(redisTemplate.execute(RELEASE_SCRIPT, keys(couponId), userId.toString()))) {
+            couponInventoryChanges.mark(couponId);
+            couponSoldOutRegistry.clear(couponId);
+        }
+    }
+
+    // 리스트 재고는 매진되면 키가 사라지므로 meta와 발급 이력까지 함께 본다. 세 키 모두 만료되면 없는 것으로 본다.
+    @Override
+    public boolean hasInventory(Long couponId) {
+        List<String> keys = keys(couponId);
+        Long existing = redisTemplate.countExistingKeys(keys);
+        return existing != null && existing > 0;
+    }
+
+    @Override
+    public int remaining(Long couponId) {
+        return remainingAll(List.of(couponId)).getOrDefault(couponId, 0);
+    }
+
+    @Override
+    public int issueLimit(Long couponId) {
+        Integer limit = meta(couponId).limit();
+        if (limit != null) {
+            return limit;
+        }
+        // limit 필드를 남기기 전에 만든 쿠폰은 남은 재고와 발급 이력 수를 더해 구한다.
+        return remaining(couponId) + countIssuedUsers(couponId);
+    }
+
+    private int countIssuedUsers(Long couponId) {
+        boolean bitmap = isBitmap(couponId);
+        int shards = shardCount(couponId);
+        List<String> issuedUsersKeys = shards > 1
+                ? shardedCouponInventory.issuedUsersKeys(couponId, shards)
+                : List.of(String.format(ISSUED_USERS_KEY, couponId));
+        long count = 0;
+        for (String issuedUsersKey : issuedUsersKeys) {
+            Long size = bitmap
+                    ? redisTemplate.execute((RedisCallback<Long>) connection ->
+                            connection.stringCommands().bitCount(issuedUsersKey.getBytes(StandardCharsets.UTF_8)))
+                    : redisTemplate.opsForSet().size(issuedUsersKey);
+            count += size == null ? 0 : size;
+        }
+        return Math.toIntExact(count);
+    }
+
+    @Override
+    public Map<Long, Integer> remainingAll(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        List<Long> ids = new ArrayList<>();
+        for (Long couponId : couponIds) {
+            int shards = shardCount(couponId);
+            if (shards > 1) {
+                result.put(couponId, shardedCouponInventory.remaining(couponId, shards));
+            } else {
+                ids.add(couponId);
+            }
+        }
+        if (ids.isEmpty()) {
+            return result;
+        }
+        // 쿠폰마다 슬롯이 다르므로 쿠폰별 스크립트를 파이프라인으로 보내 왕복은 한 번으로 유지한다.
+        // 파이프라인 안에서는 EVALSHA 실패 후 EVAL로 다시 보낼 수 없으므로 스크립트 본문을 EVAL로 보낸다.
+        byte[] script = REMAINING_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        List<Object> remaining = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : ids) {
+                byte[] inventoryKey = String.format(INVENTORY_KEY, id).getBytes(StandardCharsets.UTF_8);
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, inventoryKey);
+            }
+            return null;
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            result.put(ids.get(i), Math.toIntExact(((Number) remaining.get(i)).longValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Long> popChangedCouponIds(int count) {
+        return Set.copyOf(couponInventoryChanges.pop(count));
+    }
+
+    @Override
+    public void markChanged(Collection<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        couponInventoryChanges.add(couponIds.stream().map(String::valueOf).toList());
+    }
+
+    // 발급 이력을 chunkSize 단위로 흘려보내 쿠폰 크기와 관계없이 메모리를 일정하게 유지한다.
+    @Override
+    public void scanIssuedUsers(Long couponId, int chunkSize, Consumer<List<Long>> consumer) {
+        boolean bitmap = isBitmap(couponId);
+        int shards = shardCount(couponId);
+        List<String> issuedUsersKeys = shards > 1
+                ? shardedCouponInventory.issuedUsersKeys(couponId, shards)
+                : List.of(String.format(ISSUED_USERS_KEY, couponId));
+        for (String issuedUsersKey : issuedUsersKeys) {
+            if (bitmap) {
+                scanBitmap(issuedUsersKey, chunkSize, consumer);
+            } else {
+                scanSet(issuedUsersKey, chunkSize, consumer);
+            }
+        }
+    }
+
+    @Override
+    public Set<Long> findIssued(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        boolean bitmap = isBitmap(couponId);
+        int shards = shardCount(couponId);
+        List<Object> flags = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (Long userId : userIds) {
+                    String issuedUsersKey = shards > 1
+                            ? shardedCouponInventory.issuedUsersKey(couponId, userId, shards)
+                            : String.format(ISSUED_USERS_KEY, couponId);
+                    if (bitmap) {
+                        operations.opsForValue().getBit(issuedUsersKey, userId);
+                    } else {
+                        operations.opsForSet().isMember(issuedUsersKey, userId.toString());
+                    }
+                }
+                return null;
+            }
+        });
+        Set<Long> issued = new HashSet<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (Boolean.TRUE.equals(flags.get(i))) {
+                issued.add(userIds.get(i));
+            }
+        }
+        return issued;
+    }
+
+    private void scanSet(String issuedUsersKey, int chunkSize, Consumer<List<Long>> consumer) {
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        ScanOptions options = ScanOptions.scanOptions().count(chunkSize).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(issuedUsersKey, options)) {
+            while (cursor.hasNext()) {
+                chunk.add(Long.valueOf(cursor.next()));
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    // 비트맵은 GETRANGE로 chunkSize 바이트씩 읽어 켜진 비트의 오프셋(userId)을 꺼낸다.
+    private void scanBitmap(String issuedUsersKey, int chunkSize, Consumer<List<Long>> consumer) {
+        Long length = redisTemplate.opsForValue().size(issuedUsersKey);
+        if (length == null) {
+            return;
+        }
+        byte[] rawKey = issuedUsersKey.getBytes(StandardCharsets.UTF_8);
+        for (long start = 0; start < length; start += chunkSize) {
+            final long from = start;
+            final long to = Math.min(start + chunkSize, length) - 1;
+            byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().getRange(rawKey, from, to));
+            if (bytes == null) {
+                continue;
+            }
+            List<Long> chunk = new ArrayList<>();
+            for (int i = 0; i < bytes.length; i++) {
+                int value = bytes[i] & 0xFF;
+                for (int bit = 0; value != 0 && bit < 8; bit++) {
+                    if ((value & (0x80 >>> bit)) != 0) {
+                        chunk.add((from + i) * 8 + bit);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        }
+    }
+
+    private boolean isBitmap(Long couponId) {
+        return IssuedUserTracking.BITMAP.name()
+                .equals(redisTemplate.opsForHash().get(String.format(META_KEY, couponId), ISSUED_TRACKING_FIELD));
+    }
+
+    private int shardCount(Long couponId) {
+        return meta(couponId).shards();
+    }
+
+    // 샤드 수와 발급 한도는 쿠폰 생성 시 정해져 바뀌지 않으므로 노드마다 shardCacheTtl 동안 한 번만 읽는다.
+    // meta가 없는 쿠폰(샤드 도입 전 쿠폰, 만료된 쿠폰)도 샤드 1로 캐시해 발급마다 HMGET을 보내지 않는다.
+    private CachedMeta meta(Long couponId) {
+        CachedMeta cached = metas.get(couponId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached;
+        }
+        List<Object> meta = redisTemplate.opsForHash()
+                .multiGet(String.format(META_KEY, couponId), List.of(ISSUED_TRACKING_FIELD, SHARDS_FIELD, LIMIT_FIELD));
+        boolean missing = meta == null || meta.get(0) == null || meta.get(1) == null;
+        int shards = missing ? 1 : Integer.parseInt(meta.get(1).toString());
+        Integer limit = missing || meta.get(2) == null ? null : Integer.valueOf(meta.get(2).toString());
+        return cacheMeta(couponId, shards, limit, shardCacheTtlMillis);
+    }
+
+    private CachedMeta cacheMeta(Long couponId, int shards, Integer limit, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        if (metas.size() >= MAX_CACHED_METAS) {
+            // 만료된 쿠폰부터 비우고, 그래도 가득 차 있으면 전부 비운 뒤 다시 읽게 한다.
+            metas.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (metas.size() >= MAX_CACHED_METAS) {
+                metas.clear();
+            }
+        }
+        CachedMeta cached = new CachedMeta(shards, limit, now + ttlMillis);
+        metas.put(couponId, cached);
+        return cached;
+    }
+
+    private List<String> keys(Long couponId) {
+        return List.of(
+                String.format(INVENTORY_KEY, couponId),
+                String.format(ISSUED_USERS_KEY, couponId),
+                String.format(META_KEY, couponId)
+        );
+    }
+
+    private record CachedMeta(int shards, Integer limit, long expiresAt) {
+    }
+
+    public enum IssueMode {
+        SCRIPT, TRANSACTION
+    }
+
+    public enum InventoryType {
+        COUNTER, LIST
     }
 }
@@ -1,27 +1,35 @@
 package kr.hhplus.be.server.infrastructure.coupon;
 
+import kr.hhplus.be.server.domain.coupon.CouponBatchIssueException;
 import kr.hhplus.be.server.domain.coupon.CouponIssuanceClosedException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponIssueStatusStore;
 import kr.hhplus.be.server.domain.coupon.CouponService;
 import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
 import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
 import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class CouponIssuedConsumer {
 
     private final CouponService couponService;
+    private final CouponIssueStatusStore couponIssueStatusStore;
 
     @KafkaListener(
             topics = "${topic.coupon-issued}",
-            groupId = "coupon-issuer"
+            groupId = "coupon-issuer",
+            concurrency = "${coupon.issued-consumer.concurrency:1}",
+            autoStartup = "#{!${coupon.issued-consumer.batch:false}}"
     )
     public void consume(CouponIssuedMessage message, Acknowledgment ack) {
         try {
@@ -29,19 +37,56 @@ public class CouponIssuedConsumer {
                     message.getUserId(),
                     message.getCouponId()
             );
+            couponIssueStatusStore.save(message.getCouponId(), message.getUserId(), CouponIssueResult.ISSUED);
             ack.acknowledge();
         } catch (DuplicateCouponIssueException e) {
             log.warn("중복 발급 시도: couponId={}, userId={}",
                     message.getCouponId(), message.getUserId());
+            couponIssueStatusStore.save(message.getCouponId(), message.getUserId(), CouponIssueResult.DUPLICATE);
             ack.acknowledge();
         } catch (CouponSoldOutException e) {
             log.warn("재고 소진 상태: couponId={}, userId={}",
                     message.getCouponId(), message.getUserId());
+            couponIssueStatusStore.save(message.getCouponId(), message.getUserId(), CouponIssueResult.SOLD_OUT);
             ack.acknowledge();
         } catch (CouponIssuanceClosedException e) {
             log.warn("발급 종료된 쿠폰 접근: couponId={}, userId={}",
                     message.getCouponId(), message.getUserId());
+            couponIssueStatusStore.save(message.getCouponId(), message.getUserId(), CouponIssueResult.CLOSED);
             ack.acknowledge();
         }
     }
+
+    @KafkaListener(
+            topics = "${topic.coupon-issued}",
+            groupId = "coupon-issuer",
+            batch = "true",
+            concurrency = "${coupon.issued-consumer.concurrency:1}",
+            autoStartup = "${coupon.issued-consumer.batch:false}"
+    )
+    public void consumeBatch(List<CouponIssuedMessage> messages, Acknowledgment ack) {
+        List<CouponIssueResult> results;
+        try {
+            results = couponService.issueAll(messages);
+        } catch (CouponBatchIssueException e) {
+            // 실패한 레코드 앞까지만 커밋하고 그 이후부터 다시 전달받는다. 이미 저장된 건은 재전달 시 중복으로 걸러진다.
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), e.getFailedIndex());
+        }
+
+        for (int i = 0; i < messages.size(); i++) {
+            CouponIssuedMessage message = messages.get(i);
+            switch (results.get(i)) {
+                case DUPLICATE -> log.warn("중복 발급 시도: couponId={}, userId={}",
+                        message.getCouponId(), message.getUserId());
+                case SOLD_OUT -> log.warn("재고 소진 상태: couponId={}, userId={}",
+                        message.getCouponId(), message.getUserId());
+                case CLOSED -> log.warn("발급 종료된 쿠폰 접근: couponId={}, userId={}",
+                        message.getCouponId(), message.getUserId());
+                default -> {
+                }
+            }
+        }
+        couponIssueStatusStore.saveAll(messages, results);
+        ack.acknowledge();
+    }
 }
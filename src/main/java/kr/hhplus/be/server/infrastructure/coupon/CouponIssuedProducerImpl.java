@@ -17,12 +17,25 @@ public class CouponIssuedProducerImpl implements CouponIssuedProducer {
     @Value("${topic.coupon-issued}")
     private String topic;
 
+    @Value("${coupon.issued-topic.partition-key:USER}")
+    private PartitionKey partitionKey;
+
     @Override
     public void send(CouponIssuedMessage message) {
         kafkaTemplate.send(
                 topic,
-                message.getCouponId().toString(),
+                partitionKey.of(message),
                 message
         );
     }
+
+    // USER는 한 쿠폰의 요청을 모든 파티션에 흩어 파티션 수만큼 병렬로 처리한다.
+    // 한도와 중복은 Redis 발급 스크립트가 원자적으로 판정하므로 쿠폰 단위 순서가 필요 없고, 같은 사용자의 요청 순서만 유지된다.
+    public enum PartitionKey {
+        COUPON, USER;
+
+        String of(CouponIssuedMessage message) {
+            return this == USER ? message.getUserId().toString() : message.getCouponId().toString();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponPolicy;
+import kr.hhplus.be.server.domain.coupon.CouponPolicyCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쿠폰 정책은 생성 뒤 바뀌지 않으므로 노드 메모리에 두고 무효화 없이 TTL로만 다시 읽는다.
+@Component
+public class LocalCouponPolicyCache implements CouponPolicyCache {
+
+    private final long localTtlMillis;
+    private final Map<Long, Entry> policies = new ConcurrentHashMap<>();
+
+    public LocalCouponPolicyCache(@Value("${coupon.policy-cache.local-ttl-seconds:600}") long localTtlSeconds) {
+        this.localTtlMillis = localTtlSeconds * 1000;
+    }
+
+    @Override
+    public Optional<CouponPolicy> find(Long couponId) {
+        Entry entry = policies.get(couponId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        // 만료된 쿠폰 정책이 노드에 계속 쌓이지 않도록 일정 시간이 지난 스냅샷은 DB에서 다시 읽게 한다.
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            policies.remove(couponId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.policy());
+    }
+
+    @Override
+    public void put(CouponPolicy policy) {
+        policies.put(policy.getCouponId(), new Entry(policy, System.currentTimeMillis() + localTtlMillis));
+    }
+
+    private record Entry(CouponPolicy policy, long expiresAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponIssueStatusStore;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class RedisCouponIssueStatusStore implements CouponIssueStatusStore {
+
+    private static final String STATUS_KEY = "coupon:issue-status:%d";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisCouponIssueStatusStore(RedisTemplate<String, String> redisTemplate,
+                                       @Value("${coupon.issue-status.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public void save(Long couponId, Long userId, CouponIssueResult result) {
+        saveAll(List.of(new CouponIssuedMessage(couponId, userId)), List.of(result));
+    }
+
+    @Override
+    public void saveAll(List<CouponIssuedMessage> messages, List<CouponIssueResult> results) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        // 결과 기록과 TTL 갱신을 파이프라인 한 번으로 보낸다.
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (int i = 0; i < messages.size(); i++) {
+                    CouponIssuedMessage message = messages.get(i);
+                    write(operations, message.getCouponId(), message.getUserId(), results.get(i));
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Optional<CouponIssueResult> find(Long couponId, Long userId) {
+        Object status = redisTemplate.opsForHash().get(String.format(STATUS_KEY, userId), couponId.toString());
+        return Optional.ofNullable(status).map(value -> CouponIssueResult.valueOf(value.toString()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(RedisOperations operations, Long couponId, Long userId, CouponIssueResult result) {
+        String key = String.format(STATUS_KEY, userId);
+        // 발급된 뒤 재전달된 메시지는 DUPLICATE로 판정되므로, 이미 남은 결과가 있으면 덮어쓰지 않는다.
+        if (result == CouponIssueResult.DUPLICATE) {
+            operations.opsForHash().putIfAbsent(key, couponId.toString(), result.name());
+        } else {
+            operations.opsForHash().put(key, couponId.toString(), result.name());
+        }
+        operations.expire(key, ttl);
+    }
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponReconciliationCandidateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class RedisCouponReconciliationCandidateStore implements CouponReconciliationCandidateStore {
+
+    private static final String CANDIDATES_KEY = "coupon:%d:reconciliation:redis_only";
+    // 점검 주기보다 충분히 길게 둬, 주기 사이에 발견 시각이 사라져 유예가 처음부터 다시 시작되지 않게 한다.
+    private static final Duration KEY_TTL = Duration.ofDays(1);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CANDIDATES_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-reconciliation-candidates.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Set<Long> retainOlderThan(Long couponId, List<Long> candidates, Duration grace) {
+        List<String> args = new ArrayList<>(3 + candidates.size());
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(grace.toMillis()));
+        args.add(String.valueOf(KEY_TTL.toMillis()));
+        candidates.forEach(userId -> args.add(userId.toString()));
+        List<?> settled = redisTemplate.execute(CANDIDATES_SCRIPT,
+                List.of(String.format(CANDIDATES_KEY, couponId)), args.toArray());
+        if (settled == null) {
+            return Set.of();
+        }
+        return settled.stream().map(userId -> Long.valueOf(userId.toString())).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class RedisCouponSoldOutRegistry implements CouponSoldOutRegistry, MessageListener {
+
+    static final String CHANNEL = "coupon:exhausted";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long localTtlMillis;
+    private final Map<Long, Entry> exhausted = new ConcurrentHashMap<>();
+
+    public RedisCouponSoldOutRegistry(RedisTemplate<String, String> redisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      @Value("${coupon.sold-out.local-ttl-seconds:10}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localTtlMillis = localTtlSeconds * 1000;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public CouponIssueResult status(Long couponId) {
+        Entry entry = exhausted.get(couponId);
+        if (entry == null) {
+            return CouponIssueResult.ISSUED;
+        }
+        // Pub/Sub은 유실될 수 있으므로 로컬 표시는 짧게만 믿고, 만료되면 다시 Redis로 확인하게 둔다.
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            exhausted.remove(couponId, entry);
+            return CouponIssueResult.ISSUED;
+        }
+        return entry.result();
+    }
+
+    @Override
+    public void checkIssuable(Long couponId) {
+        status(couponId).throwIfFailed();
+    }
+
+    @Override
+    public void markExhausted(Long couponId, CouponIssueResult result) {
+        if (!result.isExhausted()) {
+            return;
+        }
+        Entry previous = exhausted.put(couponId, new Entry(result, System.currentTimeMillis() + localTtlMillis));
+        if (previous == null || previous.result() != result) {
+            redisTemplate.convertAndSend(CHANNEL, couponId + ":" + result.name());
+        }
+    }
+
+    @Override
+    public void clear(Long couponId) {
+        // 다른 노드에만 표시가 남아 있을 수 있으므로 로컬 상태와 관계없이 항상 알린다.
+        exhausted.remove(couponId);
+        redisTemplate.convertAndSend(CHANNEL, couponId + ":" + CouponIssueResult.ISSUED.name());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+        if (parts.length != 2) {
+            log.warn("잘못된 쿠폰 소진 알림: {}", body);
+            return;
+        }
+        Long couponId = Long.valueOf(parts[0]);
+        CouponIssueResult result = CouponIssueResult.valueOf(parts[1]);
+        if (result.isExhausted()) {
+            exhausted.put(couponId, new Entry(result, System.currentTimeMillis() + localTtlMillis));
+        } else {
+            exhausted.remove(couponId);
+        }
+    }
+
+    private record Entry(CouponIssueResult result, long expiresAt) {
+    }
+}
@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponWaitingQueue;
+import kr.hhplus.be.server.domain.coupon.WaitingEntry;
+import kr.hhplus.be.server.domain.coupon.WaitingTicket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class RedisCouponWaitingQueue implements CouponWaitingQueue {
+
+    private static final String QUEUE_KEY = "coupon:%d:waiting";
+    private static final String TOKENS_KEY = "coupon:%d:waiting:tokens";
+    private static final String TICK_KEY = "coupon:%d:waiting:tick";
+    private static final String ACTIVE_KEY = "coupon:waiting:active";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ENTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-waiting-enter.lua"), List.class);
+    private static final RedisScript<Long> STATUS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-waiting-status.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-waiting-admit.lua"), List.class);
+    private static final RedisScript<Long> REQUEUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-waiting-requeue.lua"), Long.class);
+
+    // 발급 요청마다 활성 목록을 읽지 않도록 노드마다 잠깐 들고 있는다. 입장 주기(1초)와 같은 간격으로 새로 읽는다.
+    private static final long ACTIVE_SNAPSHOT_MILLIS = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private volatile ActiveSnapshot activeSnapshot = new ActiveSnapshot(Set.of(), 0);
+
+    public RedisCouponWaitingQueue(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${coupon.waiting-room.ttl-minutes:30}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public WaitingTicket enter(Long couponId, Long userId) {
+        List<?> result = redisTemplate.execute(ENTER_SCRIPT,
+                List.of(String.format(QUEUE_KEY, couponId), String.format(TOKENS_KEY, couponId), ACTIVE_KEY),
+                userId.toString(),
+                UUID.randomUUID().toString(),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttl.toMillis()),
+                couponId.toString());
+        // 이 노드에서는 진입 직후부터 직접 발급을 막는다. 다른 노드는 다음 스냅샷에서 본다.
+        ActiveSnapshot snapshot = activeSnapshot;
+        if (!snapshot.couponIds().contains(couponId)) {
+            Set<Long> couponIds = new HashSet<>(snapshot.couponIds());
+            couponIds.add(couponId);
+            activeSnapshot = new ActiveSnapshot(Set.copyOf(couponIds), snapshot.expiresAt());
+        }
+        return WaitingTicket.of((String) result.get(0), ((Number) result.get(1)).longValue());
+    }
+
+    @Override
+    public WaitingTicket status(Long couponId, Long userId, String token) {
+        Long rank = redisTemplate.execute(STATUS_SCRIPT,
+                List.of(String.format(QUEUE_KEY, couponId), String.format(TOKENS_KEY, couponId)),
+                userId.toString(), token);
+        if (rank == null || rank == -2) {
+            throw new IllegalArgumentException("유효하지 않은 대기열 토큰입니다.");
+        }
+        return WaitingTicket.of(token, rank);
+    }
+
+    @Override
+    public List<WaitingEntry> admit(Long couponId, int count) {
+        List<?> admitted = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(String.format(QUEUE_KEY, couponId), ACTIVE_KEY, String.format(TICK_KEY, couponId)),
+                String.valueOf(count),
+                couponId.toString(),
+                String.valueOf(System.currentTimeMillis() / 1000));
+        if (admitted == null) {
+            return List.of();
+        }
+        // ZPOPMIN 결과는 userId, score가 번갈아 온다.
+        List<WaitingEntry> entries = new ArrayList<>(admitted.size() / 2);
+        for (int i = 0; i + 1 < admitted.size(); i += 2) {
+            entries.add(new WaitingEntry(Long.valueOf(admitted.get(i).toString()),
+                    (long) Double.parseDouble(admitted.get(i + 1).toString())));
+        }
+        return entries;
+    }
+
+    @Override
+    public void requeue(Long couponId, List<WaitingEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(2 + entries.size() * 2);
+        args.add(couponId.toString());
+        args.add(String.valueOf(ttl.toMillis()));
+        for (WaitingEntry entry : entries) {
+            args.add(String.valueOf(entry.getEnteredAt()));
+            args.add(entry.getUserId().toString());
+        }
+        redisTemplate.execute(REQUEUE_SCRIPT,
+                List.of(String.format(QUEUE_KEY, couponId), ACTIVE_KEY),
+                args.toArray());
+    }
+
+    @Override
+    public Set<Long> activeCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        Set<Long> couponIds = members == null
+                ? Set.of()
+                : members.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+        activeSnapshot = new ActiveSnapshot(couponIds, System.currentTimeMillis() + ACTIVE_SNAPSHOT_MILLIS);
+        return couponIds;
+    }
+
+    @Override
+    public boolean isActive(Long couponId) {
+        ActiveSnapshot snapshot = activeSnapshot;
+        if (snapshot.expiresAt() <= System.currentTimeMillis()) {
+            return activeCouponIds().contains(couponId);
+        }
+        return snapshot.couponIds().contains(couponId);
+    }
+
+    @Override
+    public long depth(Long couponId) {
+        Long size = redisTemplate.opsForZSet().zCard(String.format(QUEUE_KEY, couponId));
+        return size == null ? 0 : size;
+    }
+
+    private record ActiveSnapshot(Set<Long> couponIds, long expiresAt) {
+    }
+}
@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.coupon.CouponWalletCache;
+import kr.hhplus.be.server.domain.coupon.WalletCoupon;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class RedisCouponWalletCache implements CouponWalletCache {
+
+    private static final String WALLET_KEY = "coupon:wallet:%d";
+    private static final TypeReference<List<WalletCoupon>> WALLET_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisCouponWalletCache(RedisTemplate<String, String> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${coupon.wallet.ttl-seconds:300}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public Optional<List<WalletCoupon>> find(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, WALLET_TYPE));
+        } catch (JsonProcessingException e) {
+            // 깨진 값은 캐시 미스로 보고 DB에서 다시 채운다.
+            log.warn("쿠폰 지갑 캐시 역직렬화 실패: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    // 쿠폰이 없는 지갑도 빈 목록으로 저장해, 쿠폰이 없는 사용자의 결제도 DB를 조회하지 않게 한다.
+    @Override
+    public void save(Long userId, List<WalletCoupon> coupons) {
+        try {
+            redisTemplate.opsForValue().set(key(userId), objectMapper.writeValueAsString(coupons), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("쿠폰 지갑 캐시 저장 실패: userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    // 트랜잭션 안에서는 커밋 뒤에 지운다. 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 상태로 다시 채울 수 있다.
+    @Override
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().distinct().map(this::key).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.delete(keys);
+                }
+            });
+        } else {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private String key(Long userId) {
+        return String.format(WALLET_KEY, userId);
+    }
+}
@@ -0,0 +1,198 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutRegistry;
+import kr.hhplus.be.server.domain.coupon.IssuedUserTracking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 쿠폰 하나의 재고를 K개 하위 키로 나눠 서로 다른 해시 슬롯에 둔다.
+ * 사용자는 userId 해시로 항상 같은 샤드에 배정되므로 중복 검사는 그 샤드의 발급 이력만 보면 된다.
+ */
+@Slf4j
+@Component
+class ShardedCouponInventory {
+
+    private static final String INVENTORY_KEY = "coupon:{%d-%d}:inventory";
+    private static final String ISSUED_USERS_KEY = "coupon:{%d-%d}:issued_users";
+    private static final String META_KEY = "coupon:{%d-%d}:meta";
+    private static final String MOVING_KEY = "coupon:{%d-%d}:moving";
+    private static final String ISSUED_TRACKING_FIELD = "issued";
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-issue.lua"), List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-release.lua"), Long.class);
+    private static final RedisScript<Long> STEAL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-shard-steal.lua"), Long.class);
+    private static final RedisScript<Long> REFILL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-shard-refill.lua"), Long.class);
+    private static final RedisScript<Long> SETTLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-shard-settle.lua"), Long.class);
+
+    // 다른 요청이 옮겨 온 재고를 곧바로 가져가는 경합에서도 끝나도록 샤드 수의 몇 배까지만 다시 시도한다.
+    private static final int MAX_ROUNDS = 4;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
+    private final CouponInventoryChanges couponInventoryChanges;
+
+    ShardedCouponInventory(RedisTemplate<String, String> redisTemplate,
+                           CouponSoldOutRegistry couponSoldOutRegistry,
+                           CouponInventoryChanges couponInventoryChanges) {
+        this.redisTemplate = redisTemplate;
+        this.couponSoldOutRegistry = couponSoldOutRegistry;
+        this.couponInventoryChanges = couponInventoryChanges;
+    }
+
+    void initialize(Long couponId, int limitCount, Duration ttl, IssuedUserTracking issuedUserTracking, int shardCount) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<String> keys = keys(couponId, shard);
+            redisTemplate.delete(keys);
+            redisTemplate.delete(String.format(MOVING_KEY, couponId, shard));
+            redisTemplate.opsForHash().put(keys.get(2), ISSUED_TRACKING_FIELD, issuedUserTracking.name());
+            redisTemplate.expire(keys.get(2), ttl);
+            int share = limitCount / shardCount + (shard < limitCount % shardCount ? 1 : 0);
+            redisTemplate.opsForValue().set(keys.get(0), String.valueOf(share), ttl);
+        }
+    }
+
+    /**
+     * 배정된 샤드에서 발급한다. 샤드 하나가 비었다는 것만으로는 매진이 아니므로, 옮겨 올 재고가 없고
+     * 모든 샤드의 재고와 옮기는 중인 수량이 0일 때만 매진으로 보고 다른 노드에 알린다.
+     */
+    CouponIssueResult issue(Long couponId, Long userId, int shardCount) {
+        int home = shardOf(userId, shardCount);
+        for (int attempt = 0; attempt < shardCount * MAX_ROUNDS; attempt++) {
+            List<?> codes = redisTemplate.execute(ISSUE_SCRIPT, keys(couponId, home), userId.toString());
+            CouponIssueResult result = CouponIssueResult.of(((Number) codes.get(0)).longValue());
+            if (result.isIssued()) {
+                couponInventoryChanges.mark(couponId);
+            }
+            if (result == CouponIssueResult.CLOSED) {
+                // 샤드는 모두 같은 만료 시각으로 초기화되므로 한 샤드가 닫혔으면 쿠폰 전체가 닫힌 것이다.
+                couponSoldOutRegistry.markExhausted(couponId, result);
+            }
+            if (result != CouponIssueResult.SOLD_OUT) {
+                return result;
+            }
+            if (rebalance(couponId, home, shardCount)) {
+                continue;
+            }
+            Stock stock = stock(couponId, shardCount);
+            if (stock.inventory() > 0) {
+                // 확인하는 사이 복구나 이동으로 재고가 생겼다. 다시 가져온다.
+                continue;
+            }
+            if (stock.moving() == 0) {
+                couponSoldOutRegistry.markExhausted(couponId, CouponIssueResult.SOLD_OUT);
+            }
+            // 옮기는 중인 재고는 받는 샤드의 요청이 가져가므로 이 요청만 거절하고 매진은 알리지 않는다.
+            return CouponIssueResult.SOLD_OUT;
+        }
+        // 재고가 남아 있지만 다른 요청과의 경합으로 가져오지 못했다. 매진을 알리지 않고 이 요청만 거절한다.
+        log.warn("샤드 재고 경합으로 발급하지 못했습니다: couponId={}, userId={}", couponId, userId);
+        return CouponIssueResult.SOLD_OUT;
+    }
+
+    boolean release(Long couponId, Long userId, int shardCount) {
+        Long restored = redisTemplate.execute(RELEASE_SCRIPT,
+                keys(couponId, shardOf(userId, shardCount)), userId.toString());
+        boolean released = Long.valueOf(1L).equals(restored);
+        if (released) {
+            couponInventoryChanges.mark(couponId);
+        }
+        return released;
+    }
+
+    int remaining(Long couponId, int shardCount) {
+        List<String> inventoryKeys = IntStream.range(0, shardCount)
+                .mapToObj(shard -> String.format(INVENTORY_KEY, couponId, shard))
+                .toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(inventoryKeys);
+        if (values == null) {
+            return 0;
+        }
+        return values.stream().mapToInt(value -> value == null ? 0 : Integer.parseInt(value)).sum();
+    }
+
+    // 샤드는 서로 다른 슬롯에 있어 한 스크립트로 읽을 수 없으므로 MGET으로 샤드별 재고와 옮기는 중인 수량을 함께 읽는다.
+    // 재고는 발급으로만 줄고 이동은 moving에 남으므로, 둘 다 0이면 그 시점에 발급할 재고가 없다.
+    // 이후 복구로 재고가 생기면 release가 매진 표시를 지운다.
+    private Stock stock(Long couponId, int shardCount) {
+        List<String> keys = new ArrayList<>(shardCount * 2);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(String.format(INVENTORY_KEY, couponId, shard));
+            keys.add(String.format(MOVING_KEY, couponId, shard));
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        int inventory = 0;
+        int moving = 0;
+        for (int i = 0; values != null && i < values.size(); i++) {
+            int value = values.get(i) == null ? 0 : Math.max(Integer.parseInt(values.get(i)), 0);
+            if (i % 2 == 0) {
+                inventory += value;
+            } else {
+                moving += value;
+            }
+        }
+        return new Stock(inventory, moving);
+    }
+
+    // 배정된 샤드가 비면 다른 샤드의 남은 재고 절반을 옮겨 온다. 모든 샤드가 비어 있을 때만 매진이다.
+    boolean rebalance(Long couponId, int home, int shardCount) {
+        for (int offset = 1; offset < shardCount; offset++) {
+            int donor = (home + offset) % shardCount;
+            List<String> donorKeys = List.of(
+                    String.format(INVENTORY_KEY, couponId, donor), String.format(MOVING_KEY, couponId, donor));
+            Long moved = redisTemplate.execute(STEAL_SCRIPT, donorKeys);
+            if (moved != null && moved > 0) {
+                return move(couponId, home, donorKeys, moved);
+            }
+        }
+        return false;
+    }
+
+    // 두 샤드는 슬롯이 달라 한 스크립트로 옮길 수 없다. 받는 샤드가 반영을 거절하면 내준 샤드로 되돌려 전체 수량을 지킨다.
+    // 반영 여부를 모르는 오류에서는 되돌리지 않는다. 이미 반영됐다면 재고가 늘어나므로, moving에 남겨 매진 확인만 미룬다.
+    private boolean move(Long couponId, int home, List<String> donorKeys, long moved) {
+        boolean refilled = Long.valueOf(1L).equals(redisTemplate.execute(REFILL_SCRIPT,
+                List.of(String.format(INVENTORY_KEY, couponId, home)), String.valueOf(moved)));
+        redisTemplate.execute(SETTLE_SCRIPT, donorKeys, String.valueOf(moved), refilled ? "0" : "1");
+        return refilled;
+    }
+
+    List<String> issuedUsersKeys(Long couponId, int shardCount) {
+        return IntStream.range(0, shardCount)
+                .mapToObj(shard -> String.format(ISSUED_USERS_KEY, couponId, shard))
+                .toList();
+    }
+
+    String issuedUsersKey(Long couponId, Long userId, int shardCount) {
+        return String.format(ISSUED_USERS_KEY, couponId, shardOf(userId, shardCount));
+    }
+
+    private record Stock(int inventory, int moving) {
+    }
+
+    private int shardOf(Long userId, int shardCount) {
+        return Math.floorMod(Long.hashCode(userId), shardCount);
+    }
+
+    private List<String> keys(Long couponId, int shard) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(String.format(INVENTORY_KEY, couponId, shard));
+        keys.add(String.format(ISSUED_USERS_KEY, couponId, shard));
+        keys.add(String.format(META_KEY, couponId, shard));
+        return keys;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.UserCoupon;
+import kr.hhplus.be.server.domain.coupon.UserCouponBulkRepository;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserCouponBulkRepositoryImpl implements UserCouponBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_coupon (id, user_id, coupon_id, status, issued_at, used_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // (coupon_id, status) 인덱스는 PK를 뒤에 달고 있으므로 id 순 키셋 조회가 정렬 없이 인덱스 범위 스캔으로 끝난다.
+    private static final String SELECT_ISSUED_IDS_SQL = """
+            SELECT id
+              FROM user_coupon
+             WHERE coupon_id = ?
+               AND status = 'ISSUED'
+               AND id > ?
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 영속성 컨텍스트를 거치지 않고 JDBC 배치로 한 번에 보낸다. id는 엔티티와 같은 TSID 생성기로 채운다.
+    // 하나라도 실패하면 전체를 롤백해 호출 측이 건별로 다시 처리할 수 있게 한다.
+    @Override
+    @Transactional
+    public void insertAll(List<UserCoupon> userCoupons) {
+        if (userCoupons.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, userCoupons, userCoupons.size(), (ps, userCoupon) -> {
+            ps.setLong(1, TsidGenerator.getDefault().next());
+            ps.setLong(2, userCoupon.getUserId());
+            ps.setLong(3, userCoupon.getCouponId());
+            ps.setString(4, userCoupon.getStatus().name());
+            ps.setObject(5, userCoupon.getIssuedAt());
+            ps.setObject(6, userCoupon.getUsedAt());
+        });
+    }
+
+    @Override
+    public List<Long> findIssuedIdsByCouponId(Long couponId, long lastId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ISSUED_IDS_SQL, Long.class, couponId, lastId, limit);
+    }
+
+    // 조각마다 별도 트랜잭션으로 커밋해 행 잠금을 오래 잡지 않는다.
+    // 상태 조건 덕분에 그 사이 사용된 쿠폰은 건드리지 않고, 여러 노드가 같은 조각을 처리해도 결과가 같다.
+    @Override
+    @Transactional
+    public int expireAll(List<Long> userCouponIds) {
+        if (userCouponIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(userCouponIds.size(), "?"));
+        return jdbcTemplate.update(
+                "UPDATE user_coupon SET status = 'EXPIRED' WHERE id IN (" + placeholders + ") AND status = 'ISSUED'",
+                userCouponIds.toArray());
+    }
+}
@@ -0,0 +1,224 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 헤더가 붙은 주문 생성, 결제 요청을 한 번만 실행한다.
+ * 처음 요청의 응답을 저장해 두고 같은 키의 재시도에는 그 응답을 그대로 돌려준다.
+ * 처리 중에 들어온 재시도는 다시 실행하지 않고 처음 요청이 끝날 때까지 기다린다.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY = "idempotency:%s:%s:%s";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final List<Route> ROUTES = List.of(
+            new Route("POST", "/orders"),
+            new Route("POST", "/cart/*/checkout"),
+            new Route("PATCH", "/payments/*/pay")
+    );
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                             Duration waitTimeout, Duration pollInterval) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = path(request);
+        return ROUTES.stream().noneMatch(route -> route.matches(request.getMethod(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = KEY.formatted(request.getMethod(), path(request), idempotencyKey);
+        String fingerprint = DigestUtils.md5DigestAsHex(cachedRequest.body);
+
+        String owner = UUID.randomUUID().toString();
+
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            // 선점에 성공한 요청만 실제로 실행한다. 먼저 온 요청이 실패해 키가 지워졌다면 기다리던 요청이 이어받는다.
+            if (idempotencyStore.tryStart(key, fingerprint, owner)) {
+                execute(key, fingerprint, owner, cachedRequest, response, chain);
+                return;
+            }
+            Optional<IdempotencyRecord> found = idempotencyStore.find(key);
+            if (found.isPresent() && !found.get().getFingerprint().equals(fingerprint)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                        "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+                return;
+            }
+            if (found.isPresent() && found.get().isCompleted()) {
+                replay(found.get(), response);
+                return;
+            }
+            if (System.nanoTime() >= deadline) {
+                writeError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_IN_PROGRESS",
+                        "같은 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+            sleep();
+        }
+    }
+
+    private void execute(String key, String fingerprint, String owner, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, wrapper);
+            // 서버 오류는 저장하지 않는다. 재시도가 다시 실행될 수 있어야 한다.
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                boolean stored = idempotencyStore.complete(key, owner, IdempotencyRecord.completed(fingerprint,
+                        wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+                if (!stored) {
+                    // 처리 중 TTL보다 오래 걸려 다른 요청이 키를 이어받았다. 그 요청의 결과를 덮어쓰지 않는다.
+                    log.warn("처리 중 표시가 만료된 뒤 끝난 요청: key={}", key);
+                }
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.abandon(key, owner);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyRecord record, HttpServletResponse response) throws IOException {
+        response.setStatus(record.getStatus());
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getBody() != null) {
+            response.getOutputStream().write(record.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String code, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(Map.of("code", code, "message", message)));
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멱등성 키 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record Route(String method, String pattern) {
+        boolean matches(String requestMethod, String path) {
+            return method.equals(requestMethod) && PATH_MATCHER.match(pattern, path);
+        }
+    }
+
+    // 본문 해시를 구한 뒤에도 컨트롤러가 본문을 다시 읽을 수 있게 미리 읽어 둔다.
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 바로 읽을 수 있고, 다 읽으면 끝이다.
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public enum State { IN_PROGRESS, COMPLETED }
+
+    private State state;
+    // 같은 키로 다른 본문을 보내는 실수를 막기 위한 요청 본문 해시
+    private String fingerprint;
+    // 처리 중 표시를 남긴 요청. 그 요청만 결과를 저장하거나 키를 지울 수 있다.
+    private String owner;
+    private int status;
+    private String contentType;
+    private String body;
+
+    public static IdempotencyRecord inProgress(String fingerprint, String owner) {
+        return new IdempotencyRecord(State.IN_PROGRESS, fingerprint, owner, 0, null, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType, String body) {
+        return new IdempotencyRecord(State.COMPLETED, fingerprint, null, status, contentType, body);
+    }
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+}
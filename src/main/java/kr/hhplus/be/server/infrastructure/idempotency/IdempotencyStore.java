@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    /**
+     * owner 이름으로 처리 중 표시를 남기며 키를 선점한다. 이미 누가 선점했거나 끝난 키면 false.
+     */
+    boolean tryStart(String key, String fingerprint, String owner);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * 처리 중 표시가 아직 owner의 것일 때만 결과를 저장한다. 다른 요청이 이어받았으면 false.
+     */
+    boolean complete(String key, String owner, IdempotencyRecord record);
+
+    /**
+     * 처리에 실패한 키를 지워 다음 재시도가 처음부터 실행되게 한다. owner의 처리 중 표시일 때만 지운다.
+     */
+    boolean abandon(String key, String owner);
+}
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/idempotency-complete.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightTtl;
+    private final Duration ttl;
+
+    public RedisIdempotencyStore(RedisTemplate<String, String> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${idempotency.in-flight-ttl-seconds:120}") long inFlightTtlSeconds,
+                                 @Value("${idempotency.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.inFlightTtl = Duration.ofSeconds(inFlightTtlSeconds);
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    // 처리하던 노드가 죽어도 TTL이 지나면 재시도가 다시 실행된다. TTL은 가장 느린 처리보다 길어야 한다.
+    @Override
+    public boolean tryStart(String key, String fingerprint, String owner) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(key, write(IdempotencyRecord.inProgress(fingerprint, owner)), inFlightTtl));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+        } catch (JsonProcessingException e) {
+            // 깨진 값은 지우고 없던 키로 본다.
+            log.warn("멱등성 키 역직렬화 실패: key={}", key, e);
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean complete(String key, String owner, IdempotencyRecord record) {
+        return compareAndSet(key, owner, write(record));
+    }
+
+    @Override
+    public boolean abandon(String key, String owner) {
+        return compareAndSet(key, owner, "");
+    }
+
+    private boolean compareAndSet(String key, String owner, String value) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key),
+                owner, value, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 키 직렬화에 실패했습니다.", e);
+        }
+    }
+}
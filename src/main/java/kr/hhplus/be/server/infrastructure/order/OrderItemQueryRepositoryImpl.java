@@ -5,32 +5,40 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import kr.hhplus.be.server.domain.order.OrderItem;
 import kr.hhplus.be.server.domain.order.QOrder;
 import kr.hhplus.be.server.domain.order.QOrderItem;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderItemQueryRepositoryImpl implements OrderItemQueryRepository {
 
+    private static final ZoneId CREATED_AT_ZONE = ZoneId.systemDefault();
+
     private final JPAQueryFactory queryFactory;
 
     public List<PopularProductRow> findPopularProducts() {
         QOrderItem orderItem = QOrderItem.orderItem;
 
-        LocalDateTime to = LocalDate.now().plusDays(1).atStartOfDay();
-        LocalDateTime from = to.minusDays(4);
+        // @CreationTimestamp는 JVM 기본 시간대의 현재 시각을 쓴다. 기간과 ID 하한을 같은 시간대의 같은 시각에서 만든다.
+        ZonedDateTime to = LocalDate.now(CREATED_AT_ZONE).plusDays(1).atStartOfDay(CREATED_AT_ZONE);
+        ZonedDateTime from = to.minusDays(4);
 
         return queryFactory
                 .select(Projections.constructor(PopularProductRow.class,
                         orderItem.productId,
                         orderItem.quantity.sum()))
                 .from(orderItem)
-                .where(orderItem.createdAt.goe(from)
-                        .and(orderItem.createdAt.lt(to)))
+                // id 조건으로 월 파티션 중 기간에 해당하는 것만 읽는다. TSID 이전 IDENTITY ID는 가장 오래된 파티션에 있어 따로 포함한다.
+                .where(orderItem.id.lt(TsidGenerator.LEGACY_ID_LIMIT)
+                        .or(orderItem.id.goe(TsidGenerator.lowerBound(from.toInstant())))
+                        .and(orderItem.createdAt.goe(from.toLocalDateTime()))
+                        .and(orderItem.createdAt.lt(to.toLocalDateTime())))
                 .groupBy(orderItem.productId)
                 .orderBy(orderItem.quantity.sum().desc())
                 .limit(5)
@@ -0,0 +1,153 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderPartitionRepository;
+import kr.hhplus.be.server.infrastructure.config.jpa.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RANGE(id) 월 파티션을 DDL로 다룬다. ID가 TSID라 각 달 1일 0시(UTC)의 최소 ID가 파티션 경계다.
+ * 보관 이동은 파티션을 빈 작업 테이블과 EXCHANGE 해서 원본에서 한 번에 떼어 낸 뒤, 원본 밖에서 보관 테이블로 복사한다.
+ * DDL은 암묵적으로 커밋되므로 트랜잭션 없이 실행한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderPartitionRepositoryImpl implements OrderPartitionRepository {
+
+    private static final String ORDERS = "orders";
+    private static final String ORDER_ITEM = "order_item";
+    private static final List<String> TABLES = List.of(ORDERS, ORDER_ITEM);
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String SELECT_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+             ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+    private static final String TABLE_EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            """;
+    private static final String SELECT_COLUMNS_SQL = """
+            SELECT GROUP_CONCAT(CONCAT('`', COLUMN_NAME, '`') ORDER BY ORDINAL_POSITION)
+              FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isPartitioned() {
+        return TABLES.stream().allMatch(table -> !partitionNames(table).isEmpty());
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return partitionNames(ORDERS).stream()
+                .filter(name -> !MAX_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .toList();
+    }
+
+    // MAXVALUE 파티션을 새 달과 MAXVALUE로 나눈다. 미래 달을 미리 만들어 두므로 pmax는 비어 있어 바로 끝난다.
+    @Override
+    public void addPartition(YearMonth month) {
+        long upperBound = lowerBound(month.plusMonths(1));
+        for (String table : TABLES) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + partitionName(month) + " VALUES LESS THAN (" + upperBound + "), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+        }
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestOrderedAt(YearMonth month) {
+        Timestamp latest = jdbcTemplate.queryForObject(
+                "SELECT MAX(created_at) FROM orders PARTITION (" + partitionName(month) + ")", Timestamp.class);
+        return Optional.ofNullable(latest).map(Timestamp::toLocalDateTime);
+    }
+
+    @Override
+    public long archive(YearMonth month) {
+        long orders = archive(ORDERS, month);
+        archive(ORDER_ITEM, month);
+        return orders;
+    }
+
+    /**
+     * 1. 파티션과 같은 구조의 빈 작업 테이블을 만들고 EXCHANGE로 파티션 행을 통째로 넘긴다 (메타데이터만 바뀐다).
+     * 2. 작업 테이블의 행을 보관 테이블로 INSERT IGNORE ... SELECT 한다. 원본 테이블은 잠그지 않는다.
+     * 3. 비어 있는 파티션과 작업 테이블을 지운다.
+     * 각 단계는 현재 상태를 보고 진행하므로, 중간에 멈춰도 다시 실행하면 남은 단계만 한다.
+     */
+    private long archive(String table, YearMonth month) {
+        String partition = partitionName(month);
+        String stage = table + "_archive_" + partition;
+        String archive = table + "_archive";
+        boolean partitionExists = partitionNames(table).contains(partition);
+
+        if (partitionExists) {
+            if (!tableExists(stage)) {
+                jdbcTemplate.execute("CREATE TABLE " + stage + " LIKE " + table);
+                jdbcTemplate.execute("ALTER TABLE " + stage + " REMOVE PARTITIONING");
+            }
+            // 작업 테이블에 행이 있으면 이전 실행에서 이미 넘긴 것이다. 다시 EXCHANGE 하면 되돌아간다.
+            if (count(stage) == 0) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition + " WITH TABLE " + stage);
+            }
+        } else if (!tableExists(stage)) {
+            return 0;
+        }
+
+        if (!tableExists(archive)) {
+            jdbcTemplate.execute("CREATE TABLE " + archive + " LIKE " + stage);
+        }
+        // 보관 테이블에 있는 컬럼만 옮긴다. 원본에 컬럼이 추가되면 보관 테이블에도 같이 추가해야 한다.
+        String columns = jdbcTemplate.queryForObject(SELECT_COLUMNS_SQL, String.class, archive);
+        long moved = jdbcTemplate.update("INSERT IGNORE INTO " + archive + " (" + columns + ") SELECT " + columns + " FROM " + stage);
+
+        if (partitionExists) {
+            long remaining = count(table + " PARTITION (" + partition + ")");
+            if (remaining > 0) {
+                // 닫힌 달에 행이 새로 들어온 경우. 지우지 않고 다음 실행에서 다시 넘긴다.
+                throw new IllegalStateException("보관 중인 파티션에 새 행이 있습니다. table=" + table + ", partition=" + partition);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+        }
+        jdbcTemplate.execute("DROP TABLE " + stage);
+        log.info("주문 파티션 보관 이동: table={}, partition={}, moved={}", table, partition, moved);
+        return moved;
+    }
+
+    private List<String> partitionNames(String table) {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, table);
+    }
+
+    private boolean tableExists(String table) {
+        Long count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Long.class, table);
+        return count != null && count > 0;
+    }
+
+    private long count(String from) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+
+    private static long lowerBound(YearMonth month) {
+        return TsidGenerator.lowerBound(month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+}
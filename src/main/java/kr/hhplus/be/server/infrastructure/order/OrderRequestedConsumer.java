@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.application.order.OrderIntakeFacade;
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatusStore;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OrderRequestedConsumer {
+
+    private final OrderIntakeFacade orderIntakeFacade;
+    private final OrderIntakeStatusStore orderIntakeStatusStore;
+
+    // 리스너 스레드 하나가 poll 한 번을 한 트랜잭션(커넥션 하나)으로 처리하므로, 동시에 쓰는 커넥션 수는 concurrency를 넘지 않는다.
+    @KafkaListener(
+            topics = "${topic.order-requested}",
+            groupId = "order-intake",
+            batch = "true",
+            concurrency = "${order.intake.consumer-concurrency:1}",
+            properties = "max.poll.records=${order.intake.batch-size:200}"
+    )
+    public void consume(List<OrderRequestedMessage> messages, Acknowledgment ack) {
+        // 결과를 남긴 뒤 커밋 전에 재전달된 요청은 다시 만들지 않는다.
+        Set<String> completed = orderIntakeStatusStore.findCompleted(
+                messages.stream().map(OrderRequestedMessage::getTrackingId).toList());
+        List<OrderRequestedMessage> pending = messages.stream()
+                .filter(message -> !completed.contains(message.getTrackingId()))
+                .toList();
+        if (!completed.isEmpty()) {
+            log.warn("이미 처리된 주문 요청 재전달: count={}", completed.size());
+        }
+
+        if (!pending.isEmpty()) {
+            List<OrderIntakeState> states = orderIntakeFacade.createAll(pending);
+            orderIntakeStatusStore.saveAll(states);
+        }
+        ack.acknowledge();
+    }
+}
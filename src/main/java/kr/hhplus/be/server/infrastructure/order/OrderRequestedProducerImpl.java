@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.event.OrderRequestedMessage;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedProducer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+
+@Component
+@RequiredArgsConstructor
+public class OrderRequestedProducerImpl implements OrderRequestedProducer {
+
+    private final KafkaTemplate<String, OrderRequestedMessage> kafkaTemplate;
+
+    @Value("${topic.order-requested}")
+    private String topic;
+
+    // 같은 사용자의 주문 요청은 한 파티션에서 들어온 순서대로 처리된다.
+    // 202로 접수를 알리기 전에 브로커 기록을 확인한다. 보내지 못한 요청에 추적 ID를 주지 않는다.
+    @Override
+    public void send(OrderRequestedMessage message) {
+        try {
+            kafkaTemplate.send(
+                    topic,
+                    message.getUserId().toString(),
+                    message
+            ).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("주문을 접수하지 못했습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderViewBackfillRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderViewBackfillRepositoryImpl implements OrderViewBackfillRepository {
+
+    private static final String BACKFILLED_UNTIL_KEY = "order:view:backfilled-until";
+    private static final String SELECT_ORDER_IDS_SQL = "SELECT id FROM orders WHERE id > ? ORDER BY id LIMIT ?";
+
+    // 이미 이벤트로 만들어진 행은 PK 충돌로 건너뛴다. 결제 정보는 PAID 주문의 완료된 결제에서만 가져온다.
+    private static final String BACKFILL_SQL = """
+            INSERT IGNORE INTO order_view
+                   (order_id, user_id, status, total_amount, paid_amount, coupon_id, items, ordered_at, paid_at)
+            SELECT o.id, o.user_id, o.status, o.total_amount, p.amount, p.coupon_id,
+                   COALESCE((SELECT JSON_ARRAYAGG(JSON_OBJECT('productId', oi.product_id,
+                                                              'quantity', oi.quantity,
+                                                              'itemPrice', oi.order_price))
+                               FROM order_item oi
+                              WHERE oi.order_id = o.id), JSON_ARRAY()),
+                   o.created_at, p.created_at
+              FROM orders o
+              LEFT JOIN payment p
+                ON p.order_id = o.id AND p.status = 'COMPLETED' AND o.status = 'PAID'
+             WHERE o.id > ? AND o.id <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public List<Long> findOrderIdsAfter(long lastOrderId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ORDER_IDS_SQL, Long.class, lastOrderId, limit);
+    }
+
+    @Override
+    @Transactional
+    public int backfill(long fromExclusive, long toInclusive) {
+        return jdbcTemplate.update(BACKFILL_SQL, fromExclusive, toInclusive);
+    }
+
+    // 기록이 사라지면 처음부터 다시 채운다. INSERT IGNORE라 느려질 뿐 결과는 같다.
+    @Override
+    public long findBackfilledUntil() {
+        String value = redisTemplate.opsForValue().get(BACKFILLED_UNTIL_KEY);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    @Override
+    public void saveBackfilledUntil(long orderId) {
+        redisTemplate.opsForValue().set(BACKFILLED_UNTIL_KEY, String.valueOf(orderId));
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderViewService;
+import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.event.PaymentCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewPaymentConsumer {
+    private final OrderViewService orderViewService;
+
+    // 통계/데이터 플랫폼 전송과 별도 그룹으로 소비해, 한쪽이 밀려도 다른 쪽 반영이 늦어지지 않게 한다.
+    // PENDING 행만 바꾸므로 같은 이벤트가 다시 와도 결과가 같다.
+    @KafkaListener(topics = "${topic.payment-completed}", groupId = "order-view")
+    public void handlePaymentCompleted(PaymentCompletedEvent event, Acknowledgment acknowledgment) {
+        Payment payment = event.getPayment();
+        LocalDateTime paidAt = payment.getCreatedAt() != null ? payment.getCreatedAt() : LocalDateTime.now();
+        if (!orderViewService.paid(payment.getOrderId(), payment.getAmount(), payment.getCouponId(), paidAt)) {
+            log.debug("주문 읽기 모델 결제 반영 건너뜀: orderId={}", payment.getOrderId());
+        }
+        acknowledgment.acknowledge();
+    }
+}
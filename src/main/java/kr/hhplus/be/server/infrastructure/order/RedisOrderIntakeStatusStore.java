@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatus;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatusStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+@Component
+public class RedisOrderIntakeStatusStore implements OrderIntakeStatusStore {
+
+    private static final String STATUS_KEY = "order:intake:%s";
+    private static final String STATUS = "status";
+    private static final String ORDER_ID = "orderId";
+    private static final String REASON = "reason";
+    private static final String ASSIGNED_ORDER_ID = "assignedOrderId";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public RedisOrderIntakeStatusStore(RedisTemplate<String, String> redisTemplate,
+                                       @Value("${order.intake.status-ttl-seconds:3600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @Override
+    public void save(OrderIntakeState state) {
+        saveAll(List.of(state));
+    }
+
+    @Override
+    public void saveAll(List<OrderIntakeState> states) {
+        if (states.isEmpty()) {
+            return;
+        }
+        // 한 배치의 결과 기록과 TTL 갱신을 파이프라인 한 번으로 보낸다.
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (OrderIntakeState state : states) {
+                    String key = String.format(STATUS_KEY, state.getTrackingId());
+                    Map<String, String> fields = new HashMap<>();
+                    fields.put(STATUS, state.getStatus().name());
+                    if (state.getOrderId() != null) {
+                        fields.put(ORDER_ID, state.getOrderId().toString());
+                    }
+                    if (state.getReason() != null) {
+                        fields.put(REASON, state.getReason());
+                    }
+                    operations.opsForHash().putAll(key, fields);
+                    operations.expire(key, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Optional<OrderIntakeState> find(String trackingId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(String.format(STATUS_KEY, trackingId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        Object orderId = fields.get(ORDER_ID);
+        Object reason = fields.get(REASON);
+        return Optional.of(new OrderIntakeState(
+                trackingId,
+                OrderIntakeStatus.valueOf(fields.get(STATUS).toString()),
+                orderId == null ? null : Long.valueOf(orderId.toString()),
+                reason == null ? null : reason.toString()
+        ));
+    }
+
+    @Override
+    public Set<String> findCompleted(Collection<String> trackingIds) {
+        if (trackingIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> ids = List.copyOf(trackingIds);
+        List<Object> statuses = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                ids.forEach(id -> operations.opsForHash().get(String.format(STATUS_KEY, id), STATUS));
+                return null;
+            }
+        });
+        Set<String> completed = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object status = statuses.get(i);
+            if (status != null && OrderIntakeStatus.valueOf(status.toString()).isCompleted()) {
+                completed.add(ids.get(i));
+            }
+        }
+        return completed;
+    }
+
+    @Override
+    public Map<String, Long> assignOrderIds(Map<String, Long> candidates) {
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        List<String> ids = List.copyOf(candidates.keySet());
+        // 추적 ID마다 HSETNX, EXPIRE, HGET 세 결과가 순서대로 온다.
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String id : ids) {
+                    String key = String.format(STATUS_KEY, id);
+                    operations.opsForHash().putIfAbsent(key, ASSIGNED_ORDER_ID, candidates.get(id).toString());
+                    operations.expire(key, ttl);
+                    operations.opsForHash().get(key, ASSIGNED_ORDER_ID);
+                }
+                return null;
+            }
+        });
+        Map<String, Long> assigned = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            assigned.put(ids.get(i), Long.valueOf(results.get(i * 3 + 2).toString()));
+        }
+        return assigned;
+    }
+}
@@ -0,0 +1,218 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 주문 시점에 Redis 가용 재고에서 수량을 떼어 주문별 장부에 적어 두고, 결제가 MySQL에 반영한다.
+ * <ul>
+ *     <li>예약: 모든 상품 재고를 확인한 뒤 한꺼번에 차감하고, 만료 시각과 함께 장부를 남긴다.</li>
+ *     <li>결제: 만료 ZSET에서 주문을 빼 예약을 가져가고, 커밋 뒤 장부를 지운다. 롤백되면 곧 만료되도록 되돌린다.</li>
+ *     <li>취소/만료: ZSET에서 먼저 뺀 쪽만 장부 수량을 재고에 되돌린다.</li>
+ *     <li>입고/환불 등 DB 재고 변경: 커밋 뒤 변경량을 가용 재고에 더한다.</li>
+ * </ul>
+ * 상품별로 아직 DB에 반영되지 않은 예약 수량 합을 따로 두어, 재고 키가 사라져 다시 채울 때 DB 재고에서 뺀다.
+ */
+@Slf4j
+@Component
+public class RedisProductStockReservation implements ProductStockReservation {
+
+    static final String STOCK_KEY = "product:%d:stock";
+    static final String RESERVED_KEY = "product:%d:reserved";
+    static final String LEDGER_KEY = "order:%d:stock-reservation";
+    static final String EXPIRY_KEY = "order:stock-reservation:expiry";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-release.lua"), Long.class);
+    private static final RedisScript<Long> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-claim.lua"), Long.class);
+    private static final RedisScript<Long> SETTLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-settle.lua"), Long.class);
+    private static final RedisScript<Long> ADJUST_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-adjust.lua"), Long.class);
+    private static final RedisScript<Long> SEED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-stock-seed.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final Duration ttl;
+    private final Duration ledgerTtl;
+
+    public RedisProductStockReservation(RedisTemplate<String, String> redisTemplate,
+                                        ProductRepository productRepository,
+                                        @Value("${order.stock-reservation.ttl-minutes:15}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        // 만료 정리가 늦게 돌아도 장부를 읽을 수 있도록 여유를 둔다.
+        this.ledgerTtl = Duration.ofMinutes(ttlMinutes * 2 + 10);
+    }
+
+    @Override
+    public void reserve(Long orderId, Map<Long, Integer> quantities) {
+        // 상품 ID 순으로 키를 넘겨 로그와 결과 인덱스가 항상 같은 순서를 갖게 한다.
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        long result = executeReserve(orderId, entries);
+        if (result < 0) {
+            // 재고 키가 없는 상품은 DB 재고로 한 번만 초기화하고 다시 시도한다.
+            initializeStocks(entries.stream().map(Map.Entry::getKey).toList());
+            result = executeReserve(orderId, entries);
+        }
+        if (result > 0) {
+            throw new IllegalStateException("상품 재고가 부족합니다. productId=" + entries.get((int) result - 1).getKey());
+        }
+        if (result < 0) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다. productId=" + entries.get((int) -result - 1).getKey());
+        }
+        // 주문 저장이 롤백되면 만료를 기다리지 않고 바로 되돌린다.
+        afterCompletion(() -> {
+        }, () -> executeRelease(orderId));
+    }
+
+    @Override
+    public boolean claim(Long orderId) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(String.format(LEDGER_KEY, orderId), EXPIRY_KEY), orderId.toString());
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+        afterCompletion(
+                () -> executeSettle(orderId),
+                // 결제가 롤백되면 예약을 곧바로 만료 대상으로 돌려, 재시도가 다시 가져가거나 정리가 되돌리게 한다.
+                () -> redisTemplate.opsForZSet().add(EXPIRY_KEY, orderId.toString(), System.currentTimeMillis()));
+        return true;
+    }
+
+    @Override
+    public void release(Long orderId) {
+        // 취소가 롤백되면 주문은 그대로 PENDING이므로 커밋된 뒤에만 되돌린다.
+        afterCompletion(() -> executeRelease(orderId), () -> {
+        });
+    }
+
+    @Override
+    public int releaseExpired(int limit) {
+        Set<String> expired = redisTemplate.opsForZSet()
+                .rangeByScore(EXPIRY_KEY, 0, System.currentTimeMillis(), 0, limit);
+        if (expired == null) {
+            return 0;
+        }
+        int released = 0;
+        for (String orderId : expired) {
+            released += executeRelease(Long.valueOf(orderId)) ? 1 : 0;
+        }
+        return released;
+    }
+
+    @Override
+    public void adjust(Map<Long, Integer> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        changes.forEach((productId, change) -> {
+            keys.add(String.format(STOCK_KEY, productId));
+            args.add(change.toString());
+        });
+        // 롤백된 변경은 DB 재고에도 남지 않으므로 커밋된 뒤에만 반영한다.
+        afterCompletion(() -> redisTemplate.execute(ADJUST_SCRIPT, keys, args.toArray()), () -> {
+        });
+    }
+
+    private long executeReserve(Long orderId, List<Map.Entry<Long, Integer>> entries) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : entries) {
+            keys.add(String.format(STOCK_KEY, entry.getKey()));
+            args.add(entry.getValue().toString());
+        }
+        entries.forEach(entry -> keys.add(String.format(RESERVED_KEY, entry.getKey())));
+        entries.forEach(entry -> args.add(entry.getKey().toString()));
+        keys.add(String.format(LEDGER_KEY, orderId));
+        keys.add(EXPIRY_KEY);
+        args.add(orderId.toString());
+        args.add(String.valueOf(System.currentTimeMillis() + ttl.toMillis()));
+        args.add(String.valueOf(ledgerTtl.getSeconds()));
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        return result == null ? 0 : result;
+    }
+
+    private boolean executeRelease(Long orderId) {
+        String ledgerKey = String.format(LEDGER_KEY, orderId);
+        List<String> keys = new ArrayList<>(List.of(ledgerKey, EXPIRY_KEY));
+        List<String> args = new ArrayList<>(List.of(orderId.toString()));
+        List<Long> productIds = ledgerProductIds(ledgerKey);
+        productIds.forEach(productId -> keys.add(String.format(STOCK_KEY, productId)));
+        productIds.forEach(productId -> keys.add(String.format(RESERVED_KEY, productId)));
+        productIds.forEach(productId -> args.add(productId.toString()));
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        if (released != null && released == 1) {
+            log.debug("상품 재고 예약 해제: orderId={}", orderId);
+            return true;
+        }
+        return false;
+    }
+
+    // 결제가 커밋되어 DB 재고에서 빠졌으므로 예약 수량 합에서도 빼고 장부를 지운다.
+    private void executeSettle(Long orderId) {
+        String ledgerKey = String.format(LEDGER_KEY, orderId);
+        List<String> keys = new ArrayList<>(List.of(ledgerKey));
+        List<String> args = new ArrayList<>();
+        for (Long productId : ledgerProductIds(ledgerKey)) {
+            keys.add(String.format(RESERVED_KEY, productId));
+            args.add(productId.toString());
+        }
+        redisTemplate.execute(SETTLE_SCRIPT, keys, args.toArray());
+    }
+
+    private List<Long> ledgerProductIds(String ledgerKey) {
+        return redisTemplate.opsForHash().keys(ledgerKey).stream()
+                .map(productId -> Long.valueOf(productId.toString()))
+                .toList();
+    }
+
+    // 이미 다른 요청이 초기화했으면 덮어쓰지 않는다. 열린 예약 수량은 DB 재고에서 빼고 채운다.
+    private void initializeStocks(List<Long> productIds) {
+        for (Product product : productRepository.findAllByIdIn(productIds)) {
+            redisTemplate.execute(SEED_SCRIPT,
+                    List.of(String.format(STOCK_KEY, product.getId()), String.format(RESERVED_KEY, product.getId())),
+                    String.valueOf(product.getStock()));
+        }
+    }
+
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.infrastructure.redis;
 
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
 import kr.hhplus.be.server.application.redis.LockExecutor;
 import kr.hhplus.be.server.application.redis.LockService;
 import lombok.RequiredArgsConstructor;
@@ -24,13 +25,13 @@ public class RedissonLockServiceImpl implements LockService {
         try {
             boolean available = lock.tryLock(waitTime, leaseTime, timeUnit);
             if (!available) {
-                throw new IllegalStateException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+                throw new LockAcquisitionException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
             }
 
             return executor.execute();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new IllegalStateException("요청 처리 중 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
+            throw new LockAcquisitionException("요청 처리 중 문제가 발생했습니다. 잠시 후 다시 시도해주세요.");
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
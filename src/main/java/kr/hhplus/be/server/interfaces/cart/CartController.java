@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.interfaces.cart;
+
+import jakarta.validation.Valid;
+import kr.hhplus.be.server.application.cart.CartFacade;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.interfaces.order.OrderResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/cart")
+public class CartController {
+
+    private final CartFacade cartFacade;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<CartResponse> getCart(@PathVariable Long userId) {
+        return ResponseEntity.ok(CartResponse.from(userId, cartFacade.getCart(userId)));
+    }
+
+    @PostMapping("/{userId}/add")
+    public ResponseEntity<CartResponse.Item> add(@PathVariable Long userId,
+                                                 @Valid @RequestBody CartRequest.Add request) {
+        return ResponseEntity.ok(CartResponse.Item.from(
+                cartFacade.add(userId, request.getProductId(), request.getQuantity())));
+    }
+
+    @PutMapping("/{userId}/items/{productId}")
+    public ResponseEntity<CartResponse.Item> update(@PathVariable Long userId,
+                                                    @PathVariable Long productId,
+                                                    @Valid @RequestBody CartRequest.Update request) {
+        return ResponseEntity.ok(CartResponse.Item.from(
+                cartFacade.update(userId, productId, request.getQuantity())));
+    }
+
+    @DeleteMapping("/{userId}/items/{productId}")
+    public ResponseEntity<Void> remove(@PathVariable Long userId, @PathVariable Long productId) {
+        cartFacade.remove(userId, productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{userId}/checkout")
+    public ResponseEntity<OrderResponse> checkout(@PathVariable Long userId) {
+        OrderResult.Create result = cartFacade.checkout(userId);
+        return ResponseEntity.ok(OrderResponse.from(result));
+    }
+}
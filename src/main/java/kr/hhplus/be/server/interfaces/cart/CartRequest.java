@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.interfaces.cart;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public final class CartRequest {
+    private CartRequest() {}
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Add {
+        @NotNull
+        private Long productId;
+
+        @Positive
+        private int quantity;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Update {
+        @Positive
+        private int quantity;
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.interfaces.cart;
+
+import kr.hhplus.be.server.domain.cart.CartItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartResponse {
+    private Long userId;
+    private List<Item> items;
+
+    public static CartResponse from(Long userId, List<CartItem> items) {
+        return new CartResponse(userId, items.stream().map(Item::from).collect(Collectors.toList()));
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long productId;
+        private int quantity;
+
+        public static Item from(CartItem item) {
+            return new Item(item.getProductId(), item.getQuantity());
+        }
+    }
+}
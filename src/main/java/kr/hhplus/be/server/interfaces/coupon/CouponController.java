@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.interfaces.coupon;
 
 import kr.hhplus.be.server.application.coupon.CouponFacade;
+import kr.hhplus.be.server.domain.coupon.IssuedUserTracking;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -31,18 +32,39 @@ public class CouponController {
         
     }
 
+    @GetMapping("/{userId}/issue-status")
+    public CouponIssueStatusResponse getIssueStatus(@PathVariable Long userId,
+                                                    @RequestParam Long couponId) {
+        return CouponIssueStatusResponse.of(couponId, userId, couponFacade.getIssueStatus(couponId, userId));
+    }
+
+    @PostMapping("/{userId}/waiting")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public WaitingTicketResponse enterWaitingRoom(@PathVariable Long userId,
+                                                  @RequestParam Long couponId) {
+        return WaitingTicketResponse.from(couponFacade.enterWaitingRoom(couponId, userId));
+    }
+
+    @GetMapping("/{userId}/waiting")
+    public WaitingTicketResponse getWaitingTicket(@PathVariable Long userId,
+                                                  @RequestParam Long couponId,
+                                                  @RequestParam String token) {
+        return WaitingTicketResponse.from(couponFacade.getWaitingTicket(couponId, userId, token));
+    }
+
     @PostMapping("/create")
     @ResponseStatus(HttpStatus.CREATED)
     public void createCoupon(@RequestParam String name,
                                @RequestParam int discountRate,
                                @RequestParam int maxDiscountAmount,
                                @RequestParam LocalDateTime expirationAt,
-                               @RequestParam int limitCount) {
-        couponFacade.create(name, discountRate, maxDiscountAmount, expirationAt, limitCount);
+                               @RequestParam int limitCount,
+                               @RequestParam(required = false) IssuedUserTracking issuedUserTracking) {
+        couponFacade.create(name, discountRate, maxDiscountAmount, expirationAt, limitCount, issuedUserTracking);
     }
 
     @GetMapping
     public CouponResponse getCoupon(@RequestParam Long couponId) {
-        return CouponResponse.from(couponFacade.getCouponOrThrow(couponId));
+        return CouponResponse.from(couponFacade.getCoupon(couponId));
     }
 }
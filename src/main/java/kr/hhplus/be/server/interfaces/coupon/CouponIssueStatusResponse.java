@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.interfaces.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponIssueStatusResponse {
+    private static final String PENDING = "PENDING";
+
+    private Long couponId;
+    private Long userId;
+    private String status;
+
+    // 컨슈머가 아직 처리하지 않았거나 결과가 만료되면 PENDING으로 응답한다.
+    public static CouponIssueStatusResponse of(Long couponId, Long userId, Optional<CouponIssueResult> result) {
+        return new CouponIssueStatusResponse(
+                couponId,
+                userId,
+                result.map(CouponIssueResult::name).orElse(PENDING)
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.interfaces.coupon;
 
-import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.application.coupon.CouponInfo;
+import kr.hhplus.be.server.domain.coupon.CouponPolicy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,20 +21,23 @@ public class CouponResponse {
     private LocalDateTime createdAt;
     private int limitCount;
     private int issuedCount;
+    private int remainingCount;
     private boolean expired;
 
-    public static CouponResponse from(Coupon coupon) {
+    public static CouponResponse from(CouponInfo info) {
+        CouponPolicy policy = info.getPolicy();
         return new CouponResponse(
-                coupon.getId(),
-                coupon.getName(),
-                coupon.getDiscountRate(),
-                coupon.getMaxDiscountAmount(),
-                coupon.getStatus().name(),
-                coupon.getExpirationAt(),
-                coupon.getCreatedAt(),
-                coupon.getLimitCount(),
-                coupon.getIssuedCount(),
-                coupon.isExpired()
+                policy.getCouponId(),
+                policy.getName(),
+                policy.getDiscountRate(),
+                policy.getMaxDiscountAmount(),
+                info.getStatus().name(),
+                policy.getExpirationAt(),
+                policy.getCreatedAt(),
+                info.getLimitCount(),
+                info.getIssuedCount(),
+                info.getRemainingCount(),
+                policy.isExpired()
         );
     }
 }
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.interfaces.coupon;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserCouponResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
     private Long userId;
     private Long couponId;
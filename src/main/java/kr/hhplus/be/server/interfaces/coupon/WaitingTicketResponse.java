@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.interfaces.coupon;
+
+import kr.hhplus.be.server.domain.coupon.WaitingTicket;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingTicketResponse {
+    private String token;
+    private String status;
+    private long position;
+
+    public static WaitingTicketResponse from(WaitingTicket ticket) {
+        return new WaitingTicketResponse(
+                ticket.getToken(),
+                ticket.getStatus().name(),
+                ticket.getPosition()
+        );
+    }
+}
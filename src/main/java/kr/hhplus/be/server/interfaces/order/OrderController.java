@@ -3,11 +3,15 @@ package kr.hhplus.be.server.interfaces.order;
 import jakarta.validation.Valid;
 import kr.hhplus.be.server.application.order.OrderCommand;
 import kr.hhplus.be.server.application.order.OrderFacade;
+import kr.hhplus.be.server.application.order.OrderIntakeFacade;
 import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,30 +21,44 @@ import java.util.stream.Collectors;
 public class OrderController {
 
     private final OrderFacade orderFacade;
+    private final OrderIntakeFacade orderIntakeFacade;
+
+    // true면 주문을 바로 만들지 않고 Kafka에 넣은 뒤 202와 추적 ID를 돌려준다.
+    @Value("${order.intake.async:false}")
+    private boolean asyncIntake;
 
     @PostMapping
-    public ResponseEntity<OrderResponse> create(@Valid @RequestBody OrderRequest request) {
+    public ResponseEntity<?> create(@Valid @RequestBody OrderRequest request) {
         List<OrderCommand.Item> items = request.getItems().stream()
                 .map(i -> new OrderCommand.Item(i.getProductId(), i.getQuantity(),i.getItemPrice()))
                 .collect(Collectors.toList());
 
         OrderCommand.Create command = new OrderCommand.Create(request.getUserId(), items);
 
+        if (asyncIntake) {
+            OrderIntakeState accepted = orderIntakeFacade.accept(command);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/orders/intake/" + accepted.getTrackingId()))
+                    .body(OrderIntakeResponse.from(accepted));
+        }
+
         OrderResult.Create result = orderFacade.processOrder(command);
 
         OrderResponse response = OrderResponse.from(result);
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/{userId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByUser(@PathVariable Long userId) {
-        List<OrderResult.Create> results = orderFacade.getOrdersByUser(userId);
-
-        List<OrderResponse> responseList = results.stream()
-                .map(OrderResponse::from)
-                .collect(Collectors.toList());
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<OrderIntakeResponse> getIntakeStatus(@PathVariable String trackingId) {
+        return ResponseEntity.ok(OrderIntakeResponse.from(orderIntakeFacade.getStatus(trackingId)));
+    }
 
-        return ResponseEntity.ok(responseList);
+    @GetMapping("/{userId}")
+    public ResponseEntity<OrderHistoryResponse> getOrdersByUser(@PathVariable Long userId,
+                                                                @RequestParam(required = false) Long cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        OrderResult.History result = orderFacade.getOrdersByUser(userId, cursor, size);
+        return ResponseEntity.ok(OrderHistoryResponse.from(result));
     }
 
     @PatchMapping("/{orderId}/cancel")
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderHistoryResponse {
+    private List<Entry> orders;
+    // 다음 페이지 요청 시 cursor로 넘긴다. 마지막 페이지면 null
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long nextCursor;
+
+    public static OrderHistoryResponse from(OrderResult.History result) {
+        List<Entry> orders = result.getOrders().stream()
+                .map(Entry::from)
+                .collect(Collectors.toList());
+        return new OrderHistoryResponse(orders, result.getNextCursor());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long id;
+        private Long userId;
+        private List<OrderResponse.Item> items;
+        private int totalAmount;
+        private OrderStatus status;
+        private Integer paidAmount;
+        private Long couponId;
+        private LocalDateTime orderedAt;
+
+        static Entry from(OrderResult.Summary summary) {
+            List<OrderResponse.Item> items = summary.getItems().stream()
+                    .map(i -> new OrderResponse.Item(i.getProductId(), i.getQuantity(), i.getItemPrice()))
+                    .collect(Collectors.toList());
+            return new Entry(summary.getOrderId(), summary.getUserId(), items, summary.getTotalPrice(),
+                    summary.getStatus(), summary.getPaidAmount(), summary.getCouponId(), summary.getOrderedAt());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIntakeResponse {
+    private String trackingId;
+    private OrderIntakeStatus status;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long orderId;
+    private String reason;
+
+    public static OrderIntakeResponse from(OrderIntakeState state) {
+        return new OrderIntakeResponse(state.getTrackingId(), state.getStatus(), state.getOrderId(), state.getReason());
+    }
+}
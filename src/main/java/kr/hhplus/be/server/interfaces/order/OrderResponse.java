@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.interfaces.order;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import kr.hhplus.be.server.application.order.OrderResult;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderStatus;
@@ -15,6 +17,8 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderResponse {
+    // TSID는 자바스크립트 Number의 안전한 정수 범위(2^53)를 넘으므로 문자열로 내보낸다.
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
     private Long userId;
     private List<Item> items;
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.interfaces.payment;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import kr.hhplus.be.server.domain.payment.Payment;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,7 +13,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class PaymentResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long id;
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long orderId;
     private int amount;
     private String status;
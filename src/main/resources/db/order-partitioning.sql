@@ -0,0 +1,66 @@
+-- 주문/주문 항목 월 단위 파티셔닝 (한 번만 실행)
+--
+-- 두 테이블의 PK는 TSID(41비트 밀리초 | 10비트 노드 | 12비트 순번, 2025-01-01 UTC 기준)라 시간 순으로 증가한다.
+-- 그래서 PK 그대로 RANGE(id)로 나눈다. 경계값은 각 달 1일 0시(UTC)의 최소 TSID = (epochMillis - 1735689600000) << 22.
+-- PK와 엔티티 매핑은 바뀌지 않는다. 파티션 테이블은 FK를 쓸 수 없으므로 order_item.order_id에는 FK를 두지 않는다.
+-- TSID 이전 IDENTITY ID(작은 정수)는 모두 가장 오래된 파티션(p202501)에 들어간다.
+--
+-- 전체 테이블을 다시 쓰므로 점검 시간에 실행한다. 이후 달 파티션 추가와 보관 이동은 OrderArchiveScheduler가 한다.
+
+ALTER TABLE orders
+    PARTITION BY RANGE (id) (
+    PARTITION p202501 VALUES LESS THAN (11234023833600000),  -- 2025-02-01 UTC
+    PARTITION p202502 VALUES LESS THAN (21380884070400000),  -- 2025-03-01 UTC
+    PARTITION p202503 VALUES LESS THAN (32614907904000000),  -- 2025-04-01 UTC
+    PARTITION p202504 VALUES LESS THAN (43486543872000000),  -- 2025-05-01 UTC
+    PARTITION p202505 VALUES LESS THAN (54720567705600000),  -- 2025-06-01 UTC
+    PARTITION p202506 VALUES LESS THAN (65592203673600000),  -- 2025-07-01 UTC
+    PARTITION p202507 VALUES LESS THAN (76826227507200000),  -- 2025-08-01 UTC
+    PARTITION p202508 VALUES LESS THAN (88060251340800000),  -- 2025-09-01 UTC
+    PARTITION p202509 VALUES LESS THAN (98931887308800000),  -- 2025-10-01 UTC
+    PARTITION p202510 VALUES LESS THAN (110165911142400000),  -- 2025-11-01 UTC
+    PARTITION p202511 VALUES LESS THAN (121037547110400000),  -- 2025-12-01 UTC
+    PARTITION p202512 VALUES LESS THAN (132271570944000000),  -- 2026-01-01 UTC
+    PARTITION p202601 VALUES LESS THAN (143505594777600000),  -- 2026-02-01 UTC
+    PARTITION p202602 VALUES LESS THAN (153652455014400000),  -- 2026-03-01 UTC
+    PARTITION p202603 VALUES LESS THAN (164886478848000000),  -- 2026-04-01 UTC
+    PARTITION p202604 VALUES LESS THAN (175758114816000000),  -- 2026-05-01 UTC
+    PARTITION p202605 VALUES LESS THAN (186992138649600000),  -- 2026-06-01 UTC
+    PARTITION p202606 VALUES LESS THAN (197863774617600000),  -- 2026-07-01 UTC
+    PARTITION p202607 VALUES LESS THAN (209097798451200000),  -- 2026-08-01 UTC
+    PARTITION p202608 VALUES LESS THAN (220331822284800000),  -- 2026-09-01 UTC
+    PARTITION p202609 VALUES LESS THAN (231203458252800000),  -- 2026-10-01 UTC
+    PARTITION p202610 VALUES LESS THAN (242437482086400000),  -- 2026-11-01 UTC
+    PARTITION p202611 VALUES LESS THAN (253309118054400000),  -- 2026-12-01 UTC
+    PARTITION p202612 VALUES LESS THAN (264543141888000000),  -- 2027-01-01 UTC
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+ALTER TABLE order_item
+    PARTITION BY RANGE (id) (
+    PARTITION p202501 VALUES LESS THAN (11234023833600000),  -- 2025-02-01 UTC
+    PARTITION p202502 VALUES LESS THAN (21380884070400000),  -- 2025-03-01 UTC
+    PARTITION p202503 VALUES LESS THAN (32614907904000000),  -- 2025-04-01 UTC
+    PARTITION p202504 VALUES LESS THAN (43486543872000000),  -- 2025-05-01 UTC
+    PARTITION p202505 VALUES LESS THAN (54720567705600000),  -- 2025-06-01 UTC
+    PARTITION p202506 VALUES LESS THAN (65592203673600000),  -- 2025-07-01 UTC
+    PARTITION p202507 VALUES LESS THAN (76826227507200000),  -- 2025-08-01 UTC
+    PARTITION p202508 VALUES LESS THAN (88060251340800000),  -- 2025-09-01 UTC
+    PARTITION p202509 VALUES LESS THAN (98931887308800000),  -- 2025-10-01 UTC
+    PARTITION p202510 VALUES LESS THAN (110165911142400000),  -- 2025-11-01 UTC
+    PARTITION p202511 VALUES LESS THAN (121037547110400000),  -- 2025-12-01 UTC
+    PARTITION p202512 VALUES LESS THAN (132271570944000000),  -- 2026-01-01 UTC
+    PARTITION p202601 VALUES LESS THAN (143505594777600000),  -- 2026-02-01 UTC
+    PARTITION p202602 VALUES LESS THAN (153652455014400000),  -- 2026-03-01 UTC
+    PARTITION p202603 VALUES LESS THAN (164886478848000000),  -- 2026-04-01 UTC
+    PARTITION p202604 VALUES LESS THAN (175758114816000000),  -- 2026-05-01 UTC
+    PARTITION p202605 VALUES LESS THAN (186992138649600000),  -- 2026-06-01 UTC
+    PARTITION p202606 VALUES LESS THAN (197863774617600000),  -- 2026-07-01 UTC
+    PARTITION p202607 VALUES LESS THAN (209097798451200000),  -- 2026-08-01 UTC
+    PARTITION p202608 VALUES LESS THAN (220331822284800000),  -- 2026-09-01 UTC
+    PARTITION p202609 VALUES LESS THAN (231203458252800000),  -- 2026-10-01 UTC
+    PARTITION p202610 VALUES LESS THAN (242437482086400000),  -- 2026-11-01 UTC
+    PARTITION p202611 VALUES LESS THAN (253309118054400000),  -- 2026-12-01 UTC
+    PARTITION p202612 VALUES LESS THAN (264543141888000000),  -- 2027-01-01 UTC
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
@@ -0,0 +1,61 @@
+-- KEYS[1] = coupon:{id}:inventory, KEYS[2] = coupon:{id}:issued_users, KEYS[3] = coupon:{id}:meta
+-- ARGV[i] = userId
+-- return  요청 순서대로 1 = ISSUED, -1 = CLOSED, -2 = DUPLICATE, -3 = SOLD_OUT
+-- 단건 발급은 사용자 하나, 배치 발급은 같은 쿠폰의 사용자 여럿을 한 번의 호출로 처리한다.
+-- 키는 모두 같은 해시 태그를 써 클러스터에서도 한 슬롯에 모인다. 재고 변경 기록은 호출한 쪽이 스크립트 밖에서 남긴다.
+-- 재고 키는 정수 카운터(string) 또는 기존 리스트(list) 두 표현을 모두 허용한다.
+-- 발급 이력은 meta의 issued 필드가 BITMAP이면 userId 오프셋 비트맵, 없으면 Set으로 관리한다.
+local function issue(inventoryKey, issuedKey, metaKey, userId)
+    local bitmap = redis.call('HGET', metaKey, 'issued') == 'BITMAP'
+
+    local function isIssued()
+        if bitmap then
+            return redis.call('GETBIT', issuedKey, userId) == 1
+        end
+        return redis.call('SISMEMBER', issuedKey, userId) == 1
+    end
+
+    local inventoryType = redis.call('TYPE', inventoryKey).ok
+
+    if inventoryType == 'none' then
+        -- 리스트는 마지막 원소가 빠지면 키가 사라지므로, 발급 이력이 남아 있으면 매진으로 본다.
+        if redis.call('EXISTS', issuedKey) == 1 then
+            if isIssued() then
+                return -2
+            end
+            return -3
+        end
+        return -1
+    end
+
+    if isIssued() then
+        return -2
+    end
+
+    local ttl = redis.call('PTTL', inventoryKey)
+    if inventoryType == 'string' then
+        if tonumber(redis.call('GET', inventoryKey)) <= 0 then
+            return -3
+        end
+        redis.call('DECR', inventoryKey)
+    elseif not redis.call('LPOP', inventoryKey) then
+        return -3
+    end
+
+    if bitmap then
+        redis.call('SETBIT', issuedKey, userId, 1)
+    else
+        redis.call('SADD', issuedKey, userId)
+    end
+    -- 발급 이력은 첫 기록 시점에 생성되므로 초기화 때 건 TTL이 적용되지 않는다. 재고 키의 TTL을 따라가게 맞춘다.
+    if ttl > 0 then
+        redis.call('PEXPIRE', issuedKey, ttl)
+    end
+    return 1
+end
+
+local results = {}
+for i = 1, #ARGV do
+    results[i] = issue(KEYS[1], KEYS[2], KEYS[3], ARGV[i])
+end
+return results
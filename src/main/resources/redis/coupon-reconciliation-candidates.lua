@@ -0,0 +1,16 @@
+-- KEYS[1] = coupon:{id}:reconciliation:redis_only (ZSET, member=userId, score=처음 발견한 시각(ms))
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 유예 시간(ms), ARGV[3] = 키 TTL(ms), ARGV[4..] = 이번 점검의 후보 userId
+-- return  처음 발견된 지 유예 시간 이상 지난 후보 userId 목록
+local current = {}
+for i = 4, #ARGV do
+    current[ARGV[i]] = true
+    redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[i])
+end
+-- 이번 점검에서 빠진 사용자는 그 사이 저장됐거나 복구된 것이므로 발견 시각을 지운다.
+for _, userId in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do
+    if not current[userId] then
+        redis.call('ZREM', KEYS[1], userId)
+    end
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', tonumber(ARGV[1]) - tonumber(ARGV[2]))
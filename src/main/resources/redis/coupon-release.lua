@@ -0,0 +1,29 @@
+-- KEYS[1] = coupon:{id}:inventory, KEYS[2] = coupon:{id}:issued_users, KEYS[3] = coupon:{id}:meta
+-- ARGV[1] = userId
+-- return 1 = 복구됨, 0 = 발급 이력이 없어 복구하지 않음
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return 0
+end
+
+local ttl = redis.call('PTTL', KEYS[2])
+local removed
+if redis.call('HGET', KEYS[3], 'issued') == 'BITMAP' then
+    removed = redis.call('SETBIT', KEYS[2], ARGV[1], 0)
+else
+    removed = redis.call('SREM', KEYS[2], ARGV[1])
+end
+if removed == 0 then
+    return 0
+end
+
+local inventoryType = redis.call('TYPE', KEYS[1]).ok
+if inventoryType == 'string' then
+    redis.call('INCR', KEYS[1])
+else
+    redis.call('RPUSH', KEYS[1], '0')
+    -- 매진으로 사라진 리스트를 되살리는 경우 발급 이력의 TTL을 이어받는다.
+    if inventoryType == 'none' and ttl > 0 then
+        redis.call('PEXPIRE', KEYS[1], ttl)
+    end
+end
+return 1
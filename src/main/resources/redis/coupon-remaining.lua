@@ -0,0 +1,10 @@
+-- KEYS[1] = coupon:{id}:inventory
+-- return 남은 재고 수량 (키가 없으면 0)
+-- 쿠폰마다 슬롯이 다르므로 여러 쿠폰은 한 스크립트로 묶지 않고 파이프라인으로 보낸다.
+local inventoryType = redis.call('TYPE', KEYS[1]).ok
+if inventoryType == 'string' then
+    return tonumber(redis.call('GET', KEYS[1]))
+elseif inventoryType == 'list' then
+    return redis.call('LLEN', KEYS[1])
+end
+return 0
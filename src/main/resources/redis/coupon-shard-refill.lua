@@ -0,0 +1,9 @@
+-- KEYS[1] = coupon:{id-k}:inventory (재고를 받을 샤드)
+-- ARGV[1] = 더할 수량
+-- return 1 = 반영됨, 0 = 샤드가 만료되어 반영하지 않음
+-- 카운터가 만료된 뒤 INCRBY로 TTL 없는 키가 생기지 않게 존재할 때만 더한다.
+if redis.call('TYPE', KEYS[1]).ok ~= 'string' then
+    return 0
+end
+redis.call('INCRBY', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,14 @@
+-- KEYS[1] = coupon:{id-k}:inventory (재고를 내준 샤드), KEYS[2] = coupon:{id-k}:moving
+-- ARGV[1] = 옮긴 수량, ARGV[2] = 1이면 받는 샤드에 반영하지 못해 내준 샤드로 되돌린다
+-- return 1 = 되돌림, 0 = 되돌리지 않음
+-- 옮기는 중 표시를 지우고, 실패한 이동은 같은 스크립트 안에서 원래 샤드에 다시 더해 전체 수량을 지킨다.
+local moving = tonumber(redis.call('GET', KEYS[2]) or '0')
+local amount = math.min(tonumber(ARGV[1]), moving)
+if amount > 0 then
+    redis.call('DECRBY', KEYS[2], amount)
+end
+if ARGV[2] ~= '1' or redis.call('TYPE', KEYS[1]).ok ~= 'string' then
+    return 0
+end
+redis.call('INCRBY', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,19 @@
+-- KEYS[1] = coupon:{id-k}:inventory (재고를 내줄 샤드), KEYS[2] = coupon:{id-k}:moving (옮기는 중인 수량)
+-- return 가져간 수량 (남은 재고가 없으면 0)
+-- 남은 재고의 절반(최소 1)을 떼어 간다. 빼낸 만큼만 다른 샤드에 더하므로 전체 수량은 늘어나지 않는다.
+-- 떼어 간 수량은 받는 샤드에 반영될 때까지 moving에 남겨, 매진 확인이 옮기는 중인 재고를 놓치지 않게 한다.
+if redis.call('TYPE', KEYS[1]).ok ~= 'string' then
+    return 0
+end
+local left = tonumber(redis.call('GET', KEYS[1]))
+if left <= 0 then
+    return 0
+end
+local amount = math.ceil(left / 2)
+redis.call('DECRBY', KEYS[1], amount)
+redis.call('INCRBY', KEYS[2], amount)
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    redis.call('PEXPIRE', KEYS[2], ttl)
+end
+return amount
@@ -0,0 +1,16 @@
+-- KEYS[1] = coupon:{id}:waiting, KEYS[2] = coupon:waiting:active, KEYS[3] = coupon:{id}:waiting:tick
+-- ARGV[1] = 입장 인원, ARGV[2] = couponId, ARGV[3] = 현재 초(epoch second)
+-- return  입장시킨 userId, 진입 시각(score) 쌍 목록
+-- 여러 노드가 같은 초에 실행해도 tick 키를 먼저 잡은 한 노드만 입장시켜 초당 입장 인원을 지킨다.
+if redis.call('GET', KEYS[3]) == ARGV[3] then
+    return {}
+end
+redis.call('SET', KEYS[3], ARGV[3], 'EX', 2)
+
+-- 발급 요청을 넘기지 못하면 원래 순번으로 되돌릴 수 있게 점수도 함께 돌려준다.
+local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1])
+-- 비었으면 같은 스크립트 안에서 활성 목록에서 빼 진입 요청과 경합하지 않게 한다.
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[2], ARGV[2])
+end
+return popped
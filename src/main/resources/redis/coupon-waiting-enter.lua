@@ -0,0 +1,21 @@
+-- KEYS[1] = coupon:{id}:waiting (ZSET, member=userId, score=진입 시각)
+-- KEYS[2] = coupon:{id}:waiting:tokens (HASH, userId -> token)
+-- KEYS[3] = coupon:waiting:active (SET, 대기열이 있는 couponId)
+-- ARGV[1] = userId, ARGV[2] = 새 토큰, ARGV[3] = 진입 시각(ms), ARGV[4] = TTL(ms), ARGV[5] = couponId
+-- return  { token, rank } — 이미 입장한 사용자는 rank = -1
+-- 같은 사용자가 다시 요청하면 기존 토큰과 순번을 그대로 돌려준다.
+local token = redis.call('HGET', KEYS[2], ARGV[1])
+if not token then
+    token = ARGV[2]
+    redis.call('HSET', KEYS[2], ARGV[1], token)
+    redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+    redis.call('SADD', KEYS[3], ARGV[5])
+    redis.call('PEXPIRE', KEYS[1], ARGV[4])
+    redis.call('PEXPIRE', KEYS[2], ARGV[4])
+end
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if not rank then
+    rank = -1
+end
+return { token, rank }
@@ -0,0 +1,12 @@
+-- KEYS[1] = coupon:{id}:waiting, KEYS[2] = coupon:waiting:active
+-- ARGV[1] = couponId, ARGV[2] = TTL(ms), ARGV[3..] = 진입 시각, userId 쌍
+-- return  다시 넣은 인원
+-- 입장시켰지만 발급 요청을 넘기지 못한 사용자를 원래 진입 시각으로 되돌려 순번을 지킨다.
+local added = 0
+for i = 3, #ARGV, 2 do
+    added = added + redis.call('ZADD', KEYS[1], 'NX', ARGV[i], ARGV[i + 1])
+end
+-- 입장 스크립트가 큐를 비우며 활성 목록에서 뺐을 수 있으므로 다시 넣는다.
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return added
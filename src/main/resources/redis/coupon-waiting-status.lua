@@ -0,0 +1,11 @@
+-- KEYS[1] = coupon:{id}:waiting, KEYS[2] = coupon:{id}:waiting:tokens
+-- ARGV[1] = userId, ARGV[2] = token
+-- return  rank(0부터) = 대기 중, -1 = 입장 완료, -2 = 토큰 불일치
+if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+    return -2
+end
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if not rank then
+    return -1
+end
+return rank
@@ -0,0 +1,25 @@
+-- KEYS[1] = idempotency:{METHOD}:{path}:{Idempotency-Key}
+-- ARGV[1] = 처리 중 표시를 남긴 요청의 owner 토큰
+-- ARGV[2] = 저장할 완료 기록 JSON, 빈 문자열이면 키를 지운다(abandon)
+-- ARGV[3] = 완료 기록 TTL(ms)
+-- return 1 = 반영함, 0 = 다른 요청이 키를 이어받았거나 이미 끝나 건드리지 않음
+-- 처리 중 TTL이 지나 다른 요청이 키를 선점했다면, 늦게 끝난 요청이 그 결과를 덮어쓰거나 잠금을 지우지 않는다.
+local current = redis.call('GET', KEYS[1])
+if not current then
+    -- 아무도 이어받지 않았으면 완료 기록은 남긴다. 지울 것은 없다.
+    if ARGV[2] == '' then
+        return 0
+    end
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+local ok, record = pcall(cjson.decode, current)
+if not ok or record['state'] ~= 'IN_PROGRESS' or record['owner'] ~= ARGV[1] then
+    return 0
+end
+if ARGV[2] == '' then
+    redis.call('DEL', KEYS[1])
+else
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+end
+return 1
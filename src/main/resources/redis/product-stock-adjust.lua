@@ -0,0 +1,9 @@
+-- KEYS[1..n] = product:{id}:stock
+-- ARGV[1..n] = 커밋된 DB 재고 변경량 (입고/환불은 양수, 차감은 음수)
+-- 재고 키가 아직 초기화되지 않은 상품은 건너뛴다. 처음 예약할 때 변경이 반영된 DB 재고로 초기화된다.
+for i = 1, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('INCRBY', KEYS[i], ARGV[i])
+    end
+end
+return 1
@@ -0,0 +1,12 @@
+-- KEYS[1] = order:{orderId}:stock-reservation
+-- KEYS[2] = order:stock-reservation:expiry
+-- ARGV[1] = orderId
+-- return 1 = 결제가 예약을 가져감, 0 = 예약 없음(만료되어 되돌려짐)
+-- ZSET에서 빼서 만료 정리나 취소가 더 이상 재고를 되돌리지 못하게 한다. 장부는 커밋 뒤 지운다.
+if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then
+    return 0
+end
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+return 1
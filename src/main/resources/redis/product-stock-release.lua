@@ -0,0 +1,24 @@
+-- KEYS[1]         = order:{orderId}:stock-reservation
+-- KEYS[2]         = order:stock-reservation:expiry
+-- KEYS[3..m+2]    = product:{id}:stock (장부에 있는 상품 순서대로)
+-- KEYS[m+3..2m+2] = product:{id}:reserved (같은 순서)
+-- ARGV[1]         = orderId
+-- ARGV[2..]       = 상품 ID (KEYS[3..m+2]와 같은 순서)
+-- return 1 = 재고를 되돌림, 0 = 이미 되돌렸거나 결제가 가져감
+-- ZSET에서 먼저 빼는 쪽만 재고를 되돌리므로 여러 노드의 만료 정리와 취소가 겹쳐도 한 번만 반영된다.
+if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then
+    return 0
+end
+local m = (#KEYS - 2) / 2
+for i = 1, m do
+    local quantity = redis.call('HGET', KEYS[1], ARGV[i + 1])
+    if quantity then
+        -- 재고 키가 없으면 다음 초기화가 줄어든 예약 수량으로 채우므로 예약 수량만 줄인다.
+        if redis.call('EXISTS', KEYS[i + 2]) == 1 then
+            redis.call('INCRBY', KEYS[i + 2], quantity)
+        end
+        redis.call('DECRBY', KEYS[m + i + 2], quantity)
+    end
+end
+redis.call('DEL', KEYS[1])
+return 1
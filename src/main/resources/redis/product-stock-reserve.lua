@@ -0,0 +1,38 @@
+-- KEYS[1..n]    = product:{id}:stock (상품별 가용 재고)
+-- KEYS[n+1..2n] = product:{id}:reserved (상품별로 아직 DB에 반영되지 않은 예약 수량 합)
+-- KEYS[2n+1]    = order:{orderId}:stock-reservation (주문의 예약 장부, field=productId, value=수량)
+-- KEYS[2n+2]    = order:stock-reservation:expiry (만료 시각을 점수로 둔 예약 주문 ZSET)
+-- ARGV[1..n]    = 예약 수량
+-- ARGV[n+1..2n] = 상품 ID
+-- ARGV[2n+1]    = orderId
+-- ARGV[2n+2]    = 만료 시각(epoch millis)
+-- ARGV[2n+3]    = 예약 장부 TTL(초). 만료 정리가 장부를 읽을 수 있도록 만료 시각보다 길게 준다.
+-- return 0 = 예약됨, i > 0 = i번째 상품 재고 부족, -i = i번째 상품 재고 키 없음(초기화 필요)
+-- 모든 상품을 먼저 확인한 뒤에만 차감하므로 일부만 예약되는 일이 없다.
+local n = (#KEYS - 2) / 2
+local ledger = KEYS[2 * n + 1]
+local expiry = KEYS[2 * n + 2]
+local orderId = ARGV[2 * n + 1]
+
+if redis.call('EXISTS', ledger) == 1 then
+    return 0
+end
+
+for i = 1, n do
+    local stock = redis.call('GET', KEYS[i])
+    if not stock then
+        return -i
+    end
+    if tonumber(stock) < tonumber(ARGV[i]) then
+        return i
+    end
+end
+
+for i = 1, n do
+    redis.call('DECRBY', KEYS[i], ARGV[i])
+    redis.call('INCRBY', KEYS[n + i], ARGV[i])
+    redis.call('HSET', ledger, ARGV[n + i], ARGV[i])
+end
+redis.call('EXPIRE', ledger, ARGV[2 * n + 3])
+redis.call('ZADD', expiry, ARGV[2 * n + 2], orderId)
+return 0
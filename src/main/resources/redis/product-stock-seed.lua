@@ -0,0 +1,11 @@
+-- KEYS[1] = product:{id}:stock
+-- KEYS[2] = product:{id}:reserved (아직 DB에 반영되지 않은 예약 수량 합)
+-- ARGV[1] = DB 재고
+-- return 1 = 초기화함, 0 = 이미 다른 요청이 초기화함
+-- DB 재고에는 열린 예약이 빠져 있지 않으므로, 키가 사라진 뒤 다시 채울 때 예약 수량을 빼야 같은 재고를 두 번 팔지 않는다.
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+local reserved = tonumber(redis.call('GET', KEYS[2]) or '0')
+redis.call('SET', KEYS[1], tonumber(ARGV[1]) - reserved)
+return 1
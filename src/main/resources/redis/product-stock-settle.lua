@@ -0,0 +1,12 @@
+-- KEYS[1]   = order:{orderId}:stock-reservation
+-- KEYS[2..] = product:{id}:reserved (장부에 있는 상품 순서대로)
+-- ARGV[1..] = 상품 ID (KEYS[2..]와 같은 순서)
+-- 결제가 커밋되어 DB 재고에 반영된 예약을 예약 수량 합에서 빼고 장부를 지운다.
+for i = 2, #KEYS do
+    local quantity = redis.call('HGET', KEYS[1], ARGV[i - 1])
+    if quantity then
+        redis.call('DECRBY', KEYS[i], quantity)
+    end
+end
+redis.call('DEL', KEYS[1])
+return 1
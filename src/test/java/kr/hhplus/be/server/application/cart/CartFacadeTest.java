@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.application.cart;
+
+import kr.hhplus.be.server.application.order.OrderCommand;
+import kr.hhplus.be.server.application.order.OrderFacade;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.cart.CartItem;
+import kr.hhplus.be.server.domain.cart.CartService;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartFacadeTest {
+
+    @InjectMocks
+    private CartFacade cartFacade;
+
+    @Mock
+    private CartService cartService;
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    @Test
+    void 장바구니를_주문하면_담긴_상품으로_주문을_만들고_주문한_상품을_비운다() {
+        // given
+        Long userId = 1L;
+        when(cartService.getItems(userId)).thenReturn(List.of(new CartItem(10L, 2), new CartItem(20L, 1)));
+        OrderResult.Create created = new OrderResult.Create(100L, userId,
+                List.of(new OrderResult.Item(10L, 2, 5000), new OrderResult.Item(20L, 1, 3000)),
+                13000, OrderStatus.PENDING);
+        when(orderFacade.processOrder(any())).thenReturn(created);
+
+        // when
+        OrderResult.Create result = cartFacade.checkout(userId);
+
+        // then
+        assertEquals(100L, result.getOrderId());
+        InOrder inOrder = inOrder(orderFacade, cartService);
+        inOrder.verify(orderFacade).processOrder(argThat((OrderCommand.Create command) ->
+                command.getUserId().equals(userId)
+                        && command.getItems().size() == 2
+                        && command.getItems().get(0).getProductId().equals(10L)
+                        && command.getItems().get(0).getQuantity() == 2));
+        inOrder.verify(cartService).removeAll(userId, List.of(10L, 20L));
+    }
+
+    @Test
+    void 주문이_실패하면_장바구니를_그대로_둔다() {
+        // given
+        Long userId = 1L;
+        when(cartService.getItems(userId)).thenReturn(List.of(new CartItem(10L, 200)));
+        when(orderFacade.processOrder(any())).thenThrow(new IllegalStateException("상품 재고가 부족합니다. productId=10"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> cartFacade.checkout(userId));
+        verify(cartService, never()).removeAll(any(), any());
+    }
+
+    @Test
+    void 빈_장바구니는_주문할_수_없다() {
+        // given
+        when(cartService.getItems(1L)).thenReturn(List.of());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> cartFacade.checkout(1L));
+        verifyNoInteractions(orderFacade);
+    }
+}
@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.application.cart;
+
+import kr.hhplus.be.server.domain.cart.CartItem;
+import kr.hhplus.be.server.domain.cart.CartRepository;
+import kr.hhplus.be.server.domain.cart.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    @Mock
+    private CartRepository cartRepository;
+
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        cartService = new CartService(cartRepository, 2, 10);
+    }
+
+    @Test
+    void 이미_담긴_상품을_추가하면_수량을_더한다() {
+        // given
+        when(cartRepository.contains(1L, 10L)).thenReturn(true);
+        when(cartRepository.increase(1L, 10L, 3)).thenReturn(5);
+
+        // when
+        CartItem item = cartService.add(1L, 10L, 3);
+
+        // then
+        assertEquals(5, item.getQuantity());
+        verify(cartRepository, never()).countItems(any());
+    }
+
+    @Test
+    void 종류_수_한도를_넘는_새_상품은_담지_않는다() {
+        // given
+        when(cartRepository.contains(1L, 30L)).thenReturn(false);
+        when(cartRepository.countItems(1L)).thenReturn(2L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> cartService.add(1L, 30L, 1));
+        verify(cartRepository, never()).increase(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void 더한_수량이_한도를_넘으면_더한_만큼_되돌린다() {
+        // given
+        when(cartRepository.contains(1L, 10L)).thenReturn(true);
+        when(cartRepository.increase(1L, 10L, 5)).thenReturn(12);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> cartService.add(1L, 10L, 5));
+        verify(cartRepository).increase(1L, 10L, -5);
+    }
+
+    @Test
+    void 수량이_0_이하면_IllegalArgumentException_발생() {
+        assertThrows(IllegalArgumentException.class, () -> cartService.add(1L, 10L, 0));
+        assertThrows(IllegalArgumentException.class, () -> cartService.update(1L, 10L, -1));
+        verifyNoInteractions(cartRepository);
+    }
+
+    @Test
+    void 장바구니에_없는_상품은_수량을_바꾸거나_뺄_수_없다() {
+        // given
+        when(cartRepository.contains(1L, 10L)).thenReturn(false);
+        when(cartRepository.remove(1L, 10L)).thenReturn(false);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> cartService.update(1L, 10L, 2));
+        assertThrows(IllegalArgumentException.class, () -> cartService.remove(1L, 10L));
+        verify(cartRepository, never()).set(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void 담긴_상품의_수량을_바꾼다() {
+        // given
+        when(cartRepository.contains(1L, 10L)).thenReturn(true);
+
+        // when
+        CartItem item = cartService.update(1L, 10L, 7);
+
+        // then
+        assertEquals(7, item.getQuantity());
+        verify(cartRepository).set(1L, 10L, 7);
+    }
+
+    @Test
+    void 빈_목록은_삭제하지_않는다() {
+        cartService.removeAll(1L, List.of());
+
+        verifyNoInteractions(cartRepository);
+    }
+}
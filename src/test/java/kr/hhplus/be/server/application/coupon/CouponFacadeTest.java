@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.coupon;
 
 import kr.hhplus.be.server.domain.coupon.*;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedProducer;
 import kr.hhplus.be.server.domain.order.OrderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +23,15 @@ class CouponFacadeTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private CouponIssuedProducer couponIssuedProducer;
+
+    @Mock
+    private CouponSoldOutRegistry couponSoldOutRegistry;
+
+    @Mock
+    private CouponWaitingQueue couponWaitingQueue;
+
     @InjectMocks
     private CouponFacade couponFacade;
 
@@ -69,4 +79,46 @@ class CouponFacadeTest {
 
         verify(couponService, times(1)).issue(userId, couponId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 소진된_쿠폰의_비동기_발급요청은_메시지를_발행하지_않고_거절한다() {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+
+        doThrow(new CouponSoldOutException("재고가 소진되었습니다."))
+                .when(couponSoldOutRegistry).checkIssuable(couponId);
+
+        // when & then
+        assertThrows(CouponSoldOutException.class, () -> couponFacade.issueAsync(couponId, userId));
+        verify(couponIssuedProducer, never()).send(any());
+    }
+
+    @Test
+    void 대기열을_운영_중인_쿠폰은_직접_발급과_비동기_발급을_거절한다() {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+        when(couponWaitingQueue.isActive(couponId)).thenReturn(true);
+
+        // when & then
+        assertThrows(CouponWaitingRequiredException.class, () -> couponFacade.issue(userId, couponId));
+        assertThrows(CouponWaitingRequiredException.class, () -> couponFacade.issueAsync(couponId, userId));
+        verify(couponService, never()).issue(any(), any());
+        verify(couponIssuedProducer, never()).send(any());
+    }
+
+    @Test
+    void 대기열에서_입장한_사용자는_대기열_확인_없이_발급_요청을_넘긴다() {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+
+        // when
+        couponFacade.issueAdmitted(couponId, userId);
+
+        // then
+        verify(couponWaitingQueue, never()).isActive(any());
+        verify(couponIssuedProducer).send(any());
+    }
+}
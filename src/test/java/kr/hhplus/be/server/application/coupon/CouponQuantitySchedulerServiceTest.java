@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponBulkRepository;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponQuantitySchedulerServiceTest {
+
+    @Mock
+    private CouponInventoryReader couponInventoryReader;
+
+    @Mock
+    private CouponBulkRepository couponBulkRepository;
+
+    private CouponQuantitySchedulerService schedulerService;
+
+    @BeforeEach
+    void setUp() {
+        schedulerService = new CouponQuantitySchedulerService(couponInventoryReader, couponBulkRepository, 2);
+    }
+
+    @Test
+    void 변경된_쿠폰만_묶어서_조회하고_한번에_반영한다() {
+        // given
+        when(couponInventoryReader.popChangedCouponIds(2)).thenReturn(Set.of(1L, 2L), Set.of(3L), Set.of());
+        when(couponInventoryReader.remainingAll(Set.of(1L, 2L))).thenReturn(Map.of(1L, 5, 2L, 0));
+        when(couponInventoryReader.remainingAll(Set.of(3L))).thenReturn(Map.of(3L, 7));
+
+        // when
+        schedulerService.syncCouponRemainingQuantity();
+
+        // then
+        verify(couponBulkRepository).updateLimitCounts(Map.of(1L, 5, 2L, 0));
+        verify(couponBulkRepository).updateLimitCounts(Map.of(3L, 7));
+    }
+
+    @Test
+    void 변경된_쿠폰이_없으면_DB를_건드리지_않는다() {
+        // given
+        when(couponInventoryReader.popChangedCouponIds(2)).thenReturn(Set.of());
+
+        // when
+        schedulerService.syncCouponRemainingQuantity();
+
+        // then
+        verify(couponInventoryReader, never()).remainingAll(any());
+        verify(couponBulkRepository, never()).updateLimitCounts(any());
+    }
+
+    @Test
+    void 반영에_실패하면_꺼낸_쿠폰을_다시_변경_목록에_넣는다() {
+        // given
+        when(couponInventoryReader.popChangedCouponIds(2)).thenReturn(Set.of(1L));
+        when(couponInventoryReader.remainingAll(Set.of(1L))).thenReturn(Map.of(1L, 3));
+        when(couponBulkRepository.updateLimitCounts(Map.of(1L, 3))).thenThrow(new RuntimeException("DB 오류"));
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> schedulerService.syncCouponRemainingQuantity());
+        verify(couponInventoryReader).markChanged(Set.of(1L));
+    }
+}
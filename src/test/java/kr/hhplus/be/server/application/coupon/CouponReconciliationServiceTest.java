@@ -0,0 +1,212 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockExecutor;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponReconciliationCandidateStore;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponReconciliationServiceTest {
+
+    @Mock
+    private CouponInventoryReader couponInventoryReader;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponReconciliationCandidateStore candidateStore;
+
+    @Mock
+    private LockService lockService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponReconciliationService service(boolean repair) {
+        return new CouponReconciliationService(couponInventoryReader, userCouponRepository, couponRepository,
+                candidateStore, lockService, meterRegistry, 2, 100, repair, 600, 600);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisIssuedUsers(Long couponId, List<List<Long>> chunks) {
+        when(couponInventoryReader.hasInventory(couponId)).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(2);
+            chunks.forEach(consumer);
+            return null;
+        }).when(couponInventoryReader).scanIssuedUsers(eq(couponId), eq(2), any(Consumer.class));
+    }
+
+    @Test
+    void 양쪽이_일치하면_불일치가_없다() {
+        // given
+        Long couponId = 1L;
+        givenRedisIssuedUsers(couponId, List.of(List.of(10L, 11L)));
+        when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, List.of(10L, 11L))).thenReturn(List.of(10L, 11L));
+        when(userCouponRepository.findUserIdsByCouponIdAfter(couponId, 0L, PageRequest.of(0, 2))).thenReturn(List.of(10L, 11L));
+        when(userCouponRepository.findUserIdsByCouponIdAfter(couponId, 11L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(couponInventoryReader.findIssued(couponId, List.of(10L, 11L))).thenReturn(Set.of(10L, 11L));
+
+        // when
+        CouponReconciliationReport report = service(true).reconcile(couponId);
+
+        // then
+        assertEquals(2, report.getScannedRedis());
+        assertEquals(2, report.getScannedDb());
+        assertEquals(0, report.getRedisOnly());
+        assertEquals(0, report.getDbOnly());
+        verify(couponInventoryReader, never()).release(anyLong(), anyLong());
+        verify(couponInventoryReader, never()).issueAll(any());
+    }
+
+    @Test
+    void 복구가_꺼져있으면_불일치만_기록한다() {
+        // given
+        Long couponId = 1L;
+        givenRedisIssuedUsers(couponId, List.of(List.of(10L)));
+        when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, List.of(10L))).thenReturn(List.of());
+        when(userCouponRepository.findUserIdsByCouponIdAfter(couponId, 0L, PageRequest.of(0, 2))).thenReturn(List.of(20L));
+        when(couponInventoryReader.findIssued(couponId, List.of(20L))).thenReturn(Set.of());
+
+        // when
+        CouponReconciliationReport report = service(false).reconcile(couponId);
+
+        // then
+        assertEquals(1, report.getRedisOnly());
+        assertEquals(1, report.getDbOnly());
+        assertEquals(0, report.getRepaired());
+        assertEquals(1.0, meterRegistry.counter("coupon.reconciliation.mismatch", "type", "redis_only").count());
+        assertEquals(1.0, meterRegistry.counter("coupon.reconciliation.mismatch", "type", "db_only").count());
+        verify(couponInventoryReader, never()).release(anyLong(), anyLong());
+        verify(couponInventoryReader, never()).issueAll(any());
+    }
+
+    @Test
+    void 복구가_켜져있으면_Redis에만_있는_발급은_재고를_되돌리고_DB에만_있는_발급은_다시_기록한다() {
+        // given
+        Long couponId = 1L;
+        givenRedisIssuedUsers(couponId, List.of(List.of(10L)));
+        when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, List.of(10L))).thenReturn(List.of());
+        when(userCouponRepository.findUserIdsByCouponIdAfter(couponId, 0L, PageRequest.of(0, 2))).thenReturn(List.of(20L));
+        when(couponInventoryReader.findIssued(couponId, List.of(20L))).thenReturn(Set.of());
+        when(couponInventoryReader.issueAll(any())).thenReturn(List.of(CouponIssueResult.ISSUED));
+        when(candidateStore.retainOlderThan(couponId, List.of(10L), Duration.ofSeconds(600))).thenReturn(Set.of(10L));
+
+        // when
+        CouponReconciliationReport report = service(true).reconcile(couponId);
+
+        // then
+        assertEquals(2, report.getRepaired());
+        verify(couponInventoryReader).release(couponId, 10L);
+        verify(couponInventoryReader).issueAll(any());
+    }
+
+    @Test
+    void 점검_중에_저장된_발급은_되돌리지_않는다() {
+        // given
+        Long couponId = 1L;
+        givenRedisIssuedUsers(couponId, List.of(List.of(10L)));
+        when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, List.of(10L)))
+                .thenReturn(List.of(), List.of(10L));
+        when(userCouponRepository.findUserIdsByCouponIdAfter(eq(couponId), anyLong(), any())).thenReturn(List.of());
+
+        // when
+        CouponReconciliationReport report = service(true).reconcile(couponId);
+
+        // then
+        assertEquals(1, report.getRedisOnly());
+        assertEquals(0, report.getRepaired());
+        verify(couponInventoryReader, never()).release(anyLong(), anyLong());
+    }
+
+    @Test
+    void 처음_발견된_지_유예_시간이_지나지_않은_발급은_되돌리지_않는다() {
+        // given
+        Long couponId = 1L;
+        givenRedisIssuedUsers(couponId, List.of(List.of(10L, 11L)));
+        when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, List.of(10L, 11L))).thenReturn(List.of());
+        when(userCouponRepository.findUserIdsByCouponIdAfter(eq(couponId), anyLong(), any())).thenReturn(List.of());
+        when(candidateStore.retainOlderThan(couponId, List.of(10L, 11L), Duration.ofSeconds(600))).thenReturn(Set.of(10L));
+
+        // when
+        CouponReconciliationReport report = service(true).reconcile(couponId);
+
+        // then
+        assertEquals(2, report.getRedisOnly());
+        assertEquals(1, report.getRepaired());
+        verify(couponInventoryReader).release(couponId, 10L);
+        verify(couponInventoryReader, never()).release(couponId, 11L);
+    }
+
+    @Test
+    void 다른_노드가_점검_중이면_이번_주기는_건너뛴다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenThrow(new LockAcquisitionException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        service(true).reconcileActiveCoupons();
+
+        // then
+        verifyNoInteractions(couponRepository, couponInventoryReader, userCouponRepository);
+    }
+
+    @Test
+    void 잠금을_잡으면_활성_쿠폰을_점검한다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((LockExecutor<?>) invocation.getArgument(4)).execute());
+        when(couponRepository.findActiveCouponsExpiringAfter(any())).thenReturn(List.of());
+
+        // when
+        service(true).reconcileActiveCoupons();
+
+        // then
+        verify(couponRepository).findActiveCouponsExpiringAfter(any());
+    }
+
+    @Test
+    void 재고_키가_없는_쿠폰은_판정도_복구도_하지_않는다() {
+        // given
+        Long couponId = 1L;
+        when(couponInventoryReader.hasInventory(couponId)).thenReturn(false);
+
+        // when
+        CouponReconciliationReport report = service(true).reconcile(couponId);
+
+        // then
+        assertEquals(0, report.getDbOnly());
+        verify(couponInventoryReader, never()).issueAll(any());
+        verify(couponInventoryReader, never()).release(anyLong(), anyLong());
+        verifyNoInteractions(userCouponRepository, candidateStore);
+    }
+}
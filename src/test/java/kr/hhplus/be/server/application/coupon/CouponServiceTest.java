@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.coupon;
 
 import kr.hhplus.be.server.domain.coupon.*;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -8,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +30,15 @@ class CouponServiceTest {
     @Mock
     private CouponInventoryReader couponInventoryReader;
 
+    @Mock
+    private UserCouponBulkRepository userCouponBulkRepository;
+
+    @Mock
+    private CouponWalletCache couponWalletCache;
+
+    @Mock
+    private CouponPolicyCache couponPolicyCache;
+
     @Test
     void 쿠폰_단건조회_성공() {
         Long couponId = 1L;
@@ -115,4 +126,131 @@ class CouponServiceTest {
 
         verify(couponInventoryReader).release(couponId, userId);
     }
+
+    @Test
+    void 배치_발급은_당첨된_건만_한번에_저장한다() {
+        // given
+        List<CouponIssuedMessage> messages = List.of(
+                new CouponIssuedMessage(1L, 1L),
+                new CouponIssuedMessage(1L, 2L),
+                new CouponIssuedMessage(1L, 3L)
+        );
+        when(couponInventoryReader.issueAll(messages)).thenReturn(List.of(
+                CouponIssueResult.ISSUED, CouponIssueResult.DUPLICATE, CouponIssueResult.ISSUED));
+
+        // when
+        List<CouponIssueResult> results = couponService.issueAll(messages);
+
+        // then
+        assertEquals(List.of(CouponIssueResult.ISSUED, CouponIssueResult.DUPLICATE, CouponIssueResult.ISSUED), results);
+        verify(userCouponBulkRepository).insertAll(argThat(userCoupons -> userCoupons.size() == 2
+                && userCoupons.get(0).getUserId().equals(1L)
+                && userCoupons.get(1).getUserId().equals(3L)));
+        verify(userCouponRepository, never()).save(any());
+    }
+
+    @Test
+    void 배치_저장이_실패하면_건별로_저장하고_실패한_건은_재고를_복구한_뒤_위치를_알린다() {
+        // given
+        List<CouponIssuedMessage> messages = List.of(
+                new CouponIssuedMessage(1L, 1L),
+                new CouponIssuedMessage(1L, 2L),
+                new CouponIssuedMessage(1L, 3L)
+        );
+        when(couponInventoryReader.issueAll(messages)).thenReturn(List.of(
+                CouponIssueResult.SOLD_OUT, CouponIssueResult.ISSUED, CouponIssueResult.ISSUED));
+        doThrow(new RuntimeException("배치 저장 실패")).when(userCouponBulkRepository).insertAll(any());
+        when(userCouponRepository.save(any())).thenAnswer(invocation -> {
+            UserCoupon userCoupon = invocation.getArgument(0);
+            if (userCoupon.getUserId().equals(2L)) {
+                throw new RuntimeException("저장 실패");
+            }
+            return userCoupon;
+        });
+
+        // when
+        CouponBatchIssueException exception = assertThrows(CouponBatchIssueException.class,
+                () -> couponService.issueAll(messages));
+
+        // then
+        assertEquals(1, exception.getFailedIndex());
+        verify(userCouponRepository, times(2)).save(any());
+        verify(couponInventoryReader).release(1L, 2L);
+        verify(couponInventoryReader, never()).release(1L, 3L);
+    }
+
+    @Test
+    void 지갑_캐시가_없으면_DB에서_채우고_첫_쿠폰을_고른다() {
+        Long userId = 1L;
+        WalletCoupon coupon = new WalletCoupon(7L, 10, 5000, LocalDateTime.now().plusDays(1));
+        when(couponWalletCache.find(userId)).thenReturn(Optional.empty());
+        when(userCouponRepository.findWalletCoupons(eq(userId), any(LocalDateTime.class))).thenReturn(List.of(coupon));
+
+        Long couponId = couponService.getAvailableCouponId(userId);
+
+        assertEquals(7L, couponId);
+        verify(couponWalletCache).save(userId, List.of(coupon));
+    }
+
+    @Test
+    void 지갑_캐시가_있으면_DB를_조회하지_않고_만료된_쿠폰은_건너뛴다() {
+        Long userId = 1L;
+        WalletCoupon expired = new WalletCoupon(6L, 10, 5000, LocalDateTime.now().minusMinutes(1));
+        WalletCoupon usable = new WalletCoupon(7L, 20, 3000, LocalDateTime.now().plusDays(1));
+        when(couponWalletCache.find(userId)).thenReturn(Optional.of(List.of(expired, usable)));
+
+        Optional<WalletCoupon> coupon = couponService.getAvailableCoupon(userId);
+
+        assertEquals(7L, coupon.orElseThrow().getCouponId());
+        assertEquals(3000, coupon.get().calculateDiscountAmount(100000));
+        verifyNoInteractions(userCouponRepository, couponRepository);
+    }
+
+    @Test
+    void 쿠폰을_사용하면_지갑_캐시를_지운다() {
+        Long userId = 1L;
+        Long couponId = 7L;
+        UserCoupon userCoupon = UserCoupon.issue(couponId, userId);
+        when(userCouponRepository.findByUserIdAndCouponId(userId, couponId)).thenReturn(Optional.of(userCoupon));
+
+        couponService.useByCoupon(userId, couponId);
+
+        verify(couponWalletCache).evict(userId);
+    }
+
+    @Test
+    void 정책_캐시가_있으면_DB를_조회하지_않고_할인_금액을_계산한다() {
+        Long couponId = 1L;
+        CouponPolicy policy = new CouponPolicy(couponId, "테스트쿠폰", 10, 5000,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now());
+        when(couponPolicyCache.find(couponId)).thenReturn(Optional.of(policy));
+
+        int discount = couponService.calculateDiscountAmount(couponId, 100000);
+
+        assertEquals(5000, discount);
+        verifyNoInteractions(couponRepository);
+    }
+
+    @Test
+    void 정책_캐시가_없으면_DB에서_읽어_캐시에_넣는다() {
+        Long couponId = 1L;
+        Coupon coupon = Coupon.builder()
+                .id(couponId)
+                .name("테스트쿠폰")
+                .discountRate(10)
+                .maxDiscountAmount(5000)
+                .status(CouponStatus.ACTIVE)
+                .expirationAt(LocalDateTime.now().plusDays(5))
+                .createdAt(LocalDateTime.now())
+                .limitCount(10)
+                .issuedCount(0)
+                .build();
+        when(couponPolicyCache.find(couponId)).thenReturn(Optional.empty());
+        when(couponRepository.findById(couponId)).thenReturn(Optional.of(coupon));
+
+        CouponPolicy policy = couponService.getPolicy(couponId);
+
+        assertEquals(10, policy.getDiscountRate());
+        verify(couponPolicyCache).put(policy);
+    }
 }
@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.CouponWaitingQueue;
+import kr.hhplus.be.server.domain.coupon.WaitingEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CouponWaitingRoomSchedulerTest {
+
+    @Mock
+    private CouponWaitingQueue couponWaitingQueue;
+
+    @Mock
+    private CouponFacade couponFacade;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponWaitingRoomScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new CouponWaitingRoomScheduler(couponWaitingQueue, couponFacade, meterRegistry, 2);
+    }
+
+    @Test
+    void 초당_입장_인원만큼_비동기_발급으로_넘기고_지표를_남긴다() {
+        // given
+        when(couponWaitingQueue.activeCouponIds()).thenReturn(Set.of(1L));
+        when(couponWaitingQueue.admit(1L, 2)).thenReturn(List.of(new WaitingEntry(10L, 1000L), new WaitingEntry(11L, 1001L)));
+        when(couponWaitingQueue.depth(1L)).thenReturn(5L);
+        doThrow(new CouponSoldOutException("재고가 소진되었습니다.")).when(couponFacade).issueAdmitted(1L, 11L);
+
+        // when
+        scheduler.admit();
+
+        // then
+        verify(couponFacade).issueAdmitted(1L, 10L);
+        verify(couponFacade).issueAdmitted(1L, 11L);
+        assertThat(meterRegistry.get("coupon.waiting.admitted").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("coupon.waiting.depth").gauge().value()).isEqualTo(5.0);
+        verify(couponWaitingQueue, never()).requeue(anyLong(), any());
+    }
+
+    @Test
+    void 발급_요청을_넘기지_못하면_남은_사용자를_원래_순번으로_되돌린다() {
+        // given
+        WaitingEntry first = new WaitingEntry(10L, 1000L);
+        WaitingEntry second = new WaitingEntry(11L, 1001L);
+        when(couponWaitingQueue.activeCouponIds()).thenReturn(Set.of(1L));
+        when(couponWaitingQueue.admit(1L, 2)).thenReturn(List.of(first, second));
+        when(couponWaitingQueue.depth(1L)).thenReturn(2L);
+        doThrow(new RuntimeException("브로커 연결 실패")).when(couponFacade).issueAdmitted(1L, 10L);
+
+        // when
+        scheduler.admit();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WaitingEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(couponWaitingQueue).requeue(eq(1L), captor.capture());
+        assertThat(captor.getValue()).containsExactly(first, second);
+        verify(couponFacade, never()).issueAdmitted(1L, 11L);
+        assertThat(meterRegistry.get("coupon.waiting.admitted").counter().count()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.application.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.coupon.CouponRepository;
+import kr.hhplus.be.server.domain.coupon.UserCouponBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCouponExpirationSchedulerTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponBulkRepository userCouponBulkRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserCouponExpirationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new UserCouponExpirationScheduler(couponRepository, userCouponBulkRepository, meterRegistry, 2);
+    }
+
+    @Test
+    void 만료된_쿠폰의_사용자_쿠폰을_키셋_조각으로_만료한다() {
+        // given
+        Long couponId = 1L;
+        when(couponRepository.findExpiredCouponIds(any())).thenReturn(List.of(couponId));
+        when(userCouponBulkRepository.findIssuedIdsByCouponId(couponId, 0L, 2)).thenReturn(List.of(10L, 11L));
+        when(userCouponBulkRepository.findIssuedIdsByCouponId(couponId, 11L, 2)).thenReturn(List.of(15L));
+        when(userCouponBulkRepository.expireAll(List.of(10L, 11L))).thenReturn(2);
+        // 그 사이 다른 노드가 먼저 만료했거나 사용된 쿠폰은 건너뛴다.
+        when(userCouponBulkRepository.expireAll(List.of(15L))).thenReturn(0);
+
+        // when
+        scheduler.expireUserCoupons();
+
+        // then
+        verify(userCouponBulkRepository).expireAll(List.of(10L, 11L));
+        verify(userCouponBulkRepository).expireAll(List.of(15L));
+        assertEquals(2.0, meterRegistry.counter("coupon.user-coupon.expired").count());
+    }
+
+    @Test
+    void 이미_정리된_쿠폰은_UPDATE하지_않는다() {
+        // given
+        Long couponId = 1L;
+        when(userCouponBulkRepository.findIssuedIdsByCouponId(couponId, 0L, 2)).thenReturn(List.of());
+
+        // when
+        long expired = scheduler.expire(couponId);
+
+        // then
+        assertEquals(0, expired);
+        verify(userCouponBulkRepository, never()).expireAll(any());
+    }
+}
@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockExecutor;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.OrderPartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveSchedulerTest {
+
+    @Mock
+    private OrderPartitionRepository orderPartitionRepository;
+
+    @Mock
+    private LockService lockService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderArchiveScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new OrderArchiveScheduler(orderPartitionRepository, lockService, meterRegistry, 2, 1, 3600);
+    }
+
+    @Test
+    void 다음_달_파티션을_미리_만들고_보관_기간이_지난_달만_옮긴다() {
+        // given
+        YearMonth current = YearMonth.of(2026, 10);
+        when(orderPartitionRepository.isPartitioned()).thenReturn(true);
+        when(orderPartitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 6), YearMonth.of(2026, 7), YearMonth.of(2026, 8),
+                YearMonth.of(2026, 9), YearMonth.of(2026, 10)));
+        when(orderPartitionRepository.findLatestOrderedAt(YearMonth.of(2026, 6)))
+                .thenReturn(Optional.of(LocalDateTime.of(2026, 6, 30, 23, 59)));
+        when(orderPartitionRepository.findLatestOrderedAt(YearMonth.of(2026, 7))).thenReturn(Optional.empty());
+        when(orderPartitionRepository.archive(YearMonth.of(2026, 6))).thenReturn(120L);
+        when(orderPartitionRepository.archive(YearMonth.of(2026, 7))).thenReturn(0L);
+
+        // when
+        scheduler.run(current);
+
+        // then
+        verify(orderPartitionRepository).addPartition(YearMonth.of(2026, 11));
+        verify(orderPartitionRepository, never()).addPartition(YearMonth.of(2026, 12));
+        InOrder inOrder = inOrder(orderPartitionRepository);
+        inOrder.verify(orderPartitionRepository).archive(YearMonth.of(2026, 6));
+        inOrder.verify(orderPartitionRepository).archive(YearMonth.of(2026, 7));
+        // 8월부터는 보관 기간(이번 달 외 2개월) 안이다.
+        verify(orderPartitionRepository, never()).archive(YearMonth.of(2026, 8));
+        assertEquals(120, meterRegistry.counter("order.archive.archived").count());
+    }
+
+    @Test
+    void 닫힌_달에_보관_기간_안의_주문이_있으면_그_달부터_옮기지_않는다() {
+        // given
+        when(orderPartitionRepository.isPartitioned()).thenReturn(true);
+        when(orderPartitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2025, 1), YearMonth.of(2026, 6), YearMonth.of(2026, 11)));
+        // TSID 이전 ID로 만든 주문은 가장 오래된 파티션에 들어 있다.
+        when(orderPartitionRepository.findLatestOrderedAt(YearMonth.of(2025, 1)))
+                .thenReturn(Optional.of(LocalDateTime.of(2026, 9, 1, 0, 0)));
+
+        // when
+        scheduler.run(YearMonth.of(2026, 10));
+
+        // then
+        verify(orderPartitionRepository, never()).archive(any());
+        verify(orderPartitionRepository, never()).addPartition(any());
+    }
+
+    @Test
+    void 보관_이동이_실패하면_이후_달은_다음_실행으로_미룬다() {
+        // given
+        when(orderPartitionRepository.isPartitioned()).thenReturn(true);
+        when(orderPartitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 5), YearMonth.of(2026, 6), YearMonth.of(2026, 11)));
+        when(orderPartitionRepository.findLatestOrderedAt(YearMonth.of(2026, 5))).thenReturn(Optional.empty());
+        when(orderPartitionRepository.archive(YearMonth.of(2026, 5)))
+                .thenThrow(new IllegalStateException("보관 중인 파티션에 새 행이 있습니다."));
+
+        // when
+        scheduler.run(YearMonth.of(2026, 10));
+
+        // then
+        verify(orderPartitionRepository, never()).archive(YearMonth.of(2026, 6));
+    }
+
+    @Test
+    void 파티셔닝되지_않은_테이블이면_아무것도_하지_않는다() {
+        // given
+        when(orderPartitionRepository.isPartitioned()).thenReturn(false);
+
+        // when
+        scheduler.run(YearMonth.of(2026, 10));
+
+        // then
+        verify(orderPartitionRepository, never()).findPartitionMonths();
+        verify(orderPartitionRepository, never()).addPartition(any());
+        verify(orderPartitionRepository, never()).archive(any());
+    }
+
+    @Test
+    void 다른_노드가_실행_중이면_이번_주기는_건너뛴다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenThrow(new LockAcquisitionException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        scheduler.maintainPartitions();
+
+        // then
+        verifyNoInteractions(orderPartitionRepository);
+    }
+
+    @Test
+    void 파티션_관리_중_발생한_예외는_삼키지_않는다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((LockExecutor<?>) invocation.getArgument(4)).execute());
+        when(orderPartitionRepository.isPartitioned()).thenThrow(new IllegalStateException("조회 실패"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> scheduler.maintainPartitions());
+    }
+
+    @Test
+    void 보관_기간이_1개월보다_짧으면_IllegalArgumentException_발생() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderArchiveScheduler(orderPartitionRepository, lockService, meterRegistry, 0, 1, 3600));
+    }
+}
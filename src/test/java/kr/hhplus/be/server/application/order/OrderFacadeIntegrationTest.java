@@ -102,6 +102,7 @@ class OrderFacadeIntegrationTest {
         // 일어난다. 같은 트랜잭션 안에서는 Hibernate 영속성 컨텍스트가 이미 로드된
         // Order 인스턴스를 그대로 재사용해서 @Transient인 items 필드가 우연히 채워진
         // 것처럼 보일 수 있으므로, 영속성 컨텍스트를 비워 진짜 재조회 상황을 재현한다.
+        entityManager.flush();
         entityManager.clear();
 
         // when
@@ -129,10 +130,11 @@ class OrderFacadeIntegrationTest {
 
         // 실제 운영에서는 조회가 별도의 HTTP 요청(별도 트랜잭션)에서 일어난다.
         // 영속성 컨텍스트를 비워서 진짜 재조회 상황을 재현한다 (아래 설명 참조).
+        entityManager.flush();
         entityManager.clear();
 
         // when
-        List<OrderResult.Create> list = orderFacade.getOrdersByUser(user.getId());
+        List<OrderResult.Summary> list = orderFacade.getOrdersByUser(user.getId(), null, 20).getOrders();
 
         // then
         assertThat(list).hasSize(2);
@@ -153,7 +155,7 @@ class OrderFacadeIntegrationTest {
         // when & then
         assertThrows(
                 IllegalArgumentException.class,
-                () -> orderFacade.getOrdersByUser(invalidUser)
+                () -> orderFacade.getOrdersByUser(invalidUser, null, 20)
         );
     }
 }
@@ -3,7 +3,8 @@ package kr.hhplus.be.server.application.order;
 import kr.hhplus.be.server.domain.order.*;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductService;
-import kr.hhplus.be.server.domain.user.User;
+import kr.hhplus.be.server.domain.product.ProductSnapshot;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
 import kr.hhplus.be.server.domain.user.UserPointService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +34,12 @@ class OrderFacadeTest {
     @Mock
     private UserPointService userPointService;
 
+    @Mock
+    private ProductStockReservation productStockReservation;
+
+    @Mock
+    private OrderViewService orderViewService;
+
     @Test
     void 주문_성공시_상품재고확인과_주문생성_흐름이_정상작동한다() {
         // given
@@ -39,13 +48,10 @@ class OrderFacadeTest {
         OrderCommand.Item item2 = new OrderCommand.Item(102L, 1, 20000);
         OrderCommand.Create command = new OrderCommand.Create(userId, List.of(item1, item2));
 
-        User mockUser = User.create("테스터", 100000);
-        when(userPointService.getUserOrThrow(userId)).thenReturn(mockUser);
-
-        doNothing().when(productService).checkStock(101L, 2);
-        doNothing().when(productService).checkStock(102L, 1);
-        when(productService.getProduct(101L)).thenReturn(new Product("상품1", 15000, 100, 1L));
-        when(productService.getProduct(102L)).thenReturn(new Product("상품2", 20000, 100, 1L));
+        when(productService.getSnapshot(List.of(101L, 102L))).thenReturn(new ProductSnapshot(Map.of(
+                101L, product(101L, 15000, 100),
+                102L, product(102L, 20000, 100)
+        )));
 
         Order dummyOrder = new Order(userId);
         dummyOrder.addLine(101L, 2, 15000);
@@ -61,9 +67,11 @@ class OrderFacadeTest {
         assertEquals(50000, result.getTotalPrice());
         assertEquals(OrderStatus.PENDING, result.getStatus());
 
-        verify(productService).checkStock(101L, 2);
-        verify(productService).checkStock(102L, 1);
+        verify(userPointService).checkUserExists(userId);
+        verify(productService, times(1)).getSnapshot(anyList());
+        verify(productService, never()).getProduct(anyLong());
         verify(orderService).create(eq(userId), anyList());
+        verify(productStockReservation).reserve(any(), eq(Map.of(101L, 2, 102L, 1)));
     }
 
     @Test
@@ -73,8 +81,8 @@ class OrderFacadeTest {
         OrderCommand.Item item = new OrderCommand.Item(101L, 10, 5000);
         OrderCommand.Create command = new OrderCommand.Create(userId, List.of(item));
 
-        doThrow(new IllegalStateException("상품 재고가 부족합니다. productId=101"))
-                .when(productService).checkStock(101L, 10);
+        when(productService.getSnapshot(List.of(101L)))
+                .thenReturn(new ProductSnapshot(Map.of(101L, product(101L, 5000, 9))));
 
         // when & then
         IllegalStateException e = assertThrows(IllegalStateException.class, () ->
@@ -82,8 +90,25 @@ class OrderFacadeTest {
         );
 
         assertEquals("상품 재고가 부족합니다. productId=101", e.getMessage());
-        verify(productService).checkStock(101L, 10);
         verify(orderService, never()).save(any());
+        verify(orderService, never()).create(anyLong(), anyList());
+        verify(productStockReservation, never()).reserve(any(), any());
+    }
+
+    @Test
+    void 같은_상품이_여러_줄이면_수량을_합쳐_재고를_확인한다() {
+        // given
+        Long userId = 1L;
+        OrderCommand.Create command = new OrderCommand.Create(userId, List.of(
+                new OrderCommand.Item(101L, 3, 5000),
+                new OrderCommand.Item(101L, 3, 5000)
+        ));
+        when(productService.getSnapshot(List.of(101L, 101L)))
+                .thenReturn(new ProductSnapshot(Map.of(101L, product(101L, 5000, 5))));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> orderFacade.processOrder(command));
+        verify(orderService, never()).create(anyLong(), anyList());
     }
 
     @Test
@@ -106,26 +131,38 @@ class OrderFacadeTest {
         assertEquals(OrderStatus.CANCEL, result.getStatus());
         assertEquals(10000, result.getTotalPrice());
         verify(orderService).cancel(orderId);
+        verify(productStockReservation).release(orderId);
     }
 
     @Test
-    void 사용자별_주문목록을_정상적으로_반환한다() {
+    void 사용자별_주문목록을_읽기_모델에서_정상적으로_반환한다() {
         // given
         Long userId = 1L;
-        Order o1 = Order.builder().id(1L).userId(userId).totalAmount(10000).status(OrderStatus.PENDING).build();
-        OrderItem o1Item = new OrderItem(o1, 10L, 1, 10000);
-        Order o2 = Order.builder().id(2L).userId(userId).totalAmount(30000).status(OrderStatus.PENDING).build();
-        OrderItem o2Item = new OrderItem(o2, 20L, 2, 15000);
+        OrderView v2 = OrderView.from(order(2L, userId, 20L, 2, 15000));
+        OrderView v1 = OrderView.from(order(1L, userId, 10L, 1, 10000));
+        when(orderViewService.getHistory(userId, null, 2)).thenReturn(new OrderViewPage(List.of(v2, v1), 1L));
+
+        // when
+        OrderResult.History result = orderFacade.getOrdersByUser(userId, null, 2);
 
-        when(orderService.getOrdersByUser(userId)).thenReturn(List.of(o1, o2));
-        when(orderService.getOrderItems(1L)).thenReturn(List.of(o1Item));
-        when(orderService.getOrderItems(2L)).thenReturn(List.of(o2Item));
+        // then
+        assertEquals(2, result.getOrders().size());
+        assertEquals(30000, result.getOrders().get(0).getTotalPrice());
+        assertEquals(20L, result.getOrders().get(0).getItems().get(0).getProductId());
+        assertEquals(10000, result.getOrders().get(1).getTotalPrice());
+        assertEquals(1L, result.getNextCursor());
+        // 원본 주문 테이블은 읽지 않는다.
+        verifyNoInteractions(orderService);
+    }
 
-        List<OrderResult.Create> result = orderFacade.getOrdersByUser(userId);
+    private Order order(Long orderId, Long userId, Long productId, int quantity, int price) {
+        Order order = Order.builder().id(orderId).userId(userId).status(OrderStatus.PENDING)
+                .items(new ArrayList<>()).build();
+        order.addLine(productId, quantity, price);
+        return order;
+    }
 
-        assertEquals(2, result.size());
-        assertEquals(10000, result.get(0).getTotalPrice());
-        assertEquals(30000, result.get(1).getTotalPrice());
-        verify(orderService).getOrdersByUser(userId);
+    private Product product(Long id, int price, int stock) {
+        return Product.builder().id(id).name("상품" + id).price(price).stock(stock).categoryId(1L).build();
     }
-}
\ No newline at end of file
+}
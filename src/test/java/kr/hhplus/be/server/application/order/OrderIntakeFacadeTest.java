@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.*;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedMessage;
+import kr.hhplus.be.server.domain.order.event.OrderRequestedProducer;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductSnapshot;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import kr.hhplus.be.server.domain.user.UserPointService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeFacadeTest {
+
+    @InjectMocks
+    private OrderIntakeFacade orderIntakeFacade;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private UserPointService userPointService;
+
+    @Mock
+    private ProductStockReservation productStockReservation;
+
+    @Mock
+    private OrderRequestedProducer orderRequestedProducer;
+
+    @Mock
+    private OrderIntakeStatusStore orderIntakeStatusStore;
+
+    @Test
+    void 접수하면_ACCEPTED를_먼저_남기고_사용자_키로_보낼_요청을_만든다() {
+        // given
+        OrderCommand.Create command = new OrderCommand.Create(1L, List.of(new OrderCommand.Item(10L, 2, 0)));
+
+        // when
+        OrderIntakeState accepted = orderIntakeFacade.accept(command);
+
+        // then
+        assertEquals(OrderIntakeStatus.ACCEPTED, accepted.getStatus());
+        assertNotNull(accepted.getTrackingId());
+        InOrder inOrder = inOrder(orderIntakeStatusStore, orderRequestedProducer);
+        inOrder.verify(orderIntakeStatusStore).save(accepted);
+        inOrder.verify(orderRequestedProducer).send(argThat(message ->
+                message.getTrackingId().equals(accepted.getTrackingId())
+                        && message.getUserId().equals(1L)
+                        && message.getItems().get(0).getProductId().equals(10L)
+                        && message.getItems().get(0).getQuantity() == 2));
+    }
+
+    @Test
+    void 보내지_못하면_예외를_그대로_던진다() {
+        // given
+        OrderCommand.Create command = new OrderCommand.Create(1L, List.of(new OrderCommand.Item(10L, 1, 0)));
+        doThrow(new IllegalStateException("주문을 접수하지 못했습니다. 잠시 후 다시 시도해주세요."))
+                .when(orderRequestedProducer).send(any());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> orderIntakeFacade.accept(command));
+    }
+
+    @Test
+    void 배치의_사용자와_상품은_한_번씩만_읽고_재고를_잡은_ID로_주문을_만든다() {
+        // given
+        OrderRequestedMessage m1 = message("t-1", 1L, new OrderRequestedMessage.Item(10L, 2));
+        OrderRequestedMessage m2 = message("t-2", 2L, new OrderRequestedMessage.Item(10L, 1),
+                new OrderRequestedMessage.Item(20L, 1));
+        when(userPointService.findExistingUserIds(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(productService.findSnapshot(Set.of(10L, 20L))).thenReturn(snapshot(product(10L, 5000, 100), product(20L, 3000, 100)));
+        when(orderService.nextOrderId()).thenReturn(101L, 102L);
+        assignCandidateIds();
+        when(orderService.findExistingOrderIds(any())).thenReturn(Set.of());
+
+        // when
+        List<OrderIntakeState> states = orderIntakeFacade.createAll(List.of(m1, m2));
+
+        // then
+        assertEquals(List.of(OrderIntakeStatus.CREATED, OrderIntakeStatus.CREATED),
+                states.stream().map(OrderIntakeState::getStatus).toList());
+        assertEquals(101L, states.get(0).getOrderId());
+        assertEquals(102L, states.get(1).getOrderId());
+        InOrder inOrder = inOrder(productStockReservation, orderService);
+        inOrder.verify(productStockReservation).reserve(101L, Map.of(10L, 2));
+        inOrder.verify(orderService).createWithId(eq(101L), eq(1L), argThat(lines ->
+                lines.size() == 1 && lines.get(0).getOrderPrice() == 5000));
+        inOrder.verify(productStockReservation).reserve(102L, Map.of(10L, 1, 20L, 1));
+        inOrder.verify(orderService).createWithId(eq(102L), eq(2L), anyList());
+    }
+
+    @Test
+    void 품절이나_없는_사용자는_그_요청만_FAILED로_남기고_주문을_만들지_않는다() {
+        // given
+        OrderRequestedMessage soldOut = message("t-1", 1L, new OrderRequestedMessage.Item(10L, 1));
+        OrderRequestedMessage noUser = message("t-2", 9L, new OrderRequestedMessage.Item(20L, 1));
+        OrderRequestedMessage ok = message("t-3", 1L, new OrderRequestedMessage.Item(20L, 1));
+        when(userPointService.findExistingUserIds(any())).thenReturn(Set.of(1L));
+        when(productService.findSnapshot(any())).thenReturn(snapshot(product(10L, 5000, 100), product(20L, 3000, 100)));
+        when(orderService.nextOrderId()).thenReturn(101L, 102L, 103L);
+        assignCandidateIds();
+        when(orderService.findExistingOrderIds(any())).thenReturn(Set.of());
+        // DB 스냅샷으로는 남아 있어도 Redis 예약에서 품절이 확정된다.
+        doThrow(new IllegalStateException("상품 재고가 부족합니다. productId=10"))
+                .doNothing()
+                .when(productStockReservation).reserve(anyLong(), any());
+
+        // when
+        List<OrderIntakeState> states = orderIntakeFacade.createAll(List.of(soldOut, noUser, ok));
+
+        // then
+        assertEquals(OrderIntakeStatus.FAILED, states.get(0).getStatus());
+        assertEquals("상품 재고가 부족합니다. productId=10", states.get(0).getReason());
+        assertEquals(OrderIntakeStatus.FAILED, states.get(1).getStatus());
+        assertEquals(OrderIntakeStatus.CREATED, states.get(2).getStatus());
+        assertEquals(103L, states.get(2).getOrderId());
+        verify(orderService, never()).createWithId(eq(101L), anyLong(), anyList());
+        verify(orderService, times(1)).createWithId(any(), anyLong(), anyList());
+    }
+
+    @Test
+    void 예약_뒤_주문을_만들지_못하면_예약을_되돌린다() {
+        // given
+        OrderRequestedMessage m = message("t-1", 1L, new OrderRequestedMessage.Item(10L, 1));
+        when(userPointService.findExistingUserIds(any())).thenReturn(Set.of(1L));
+        when(productService.findSnapshot(any())).thenReturn(snapshot(product(10L, 5000, 100)));
+        when(orderService.nextOrderId()).thenReturn(101L);
+        assignCandidateIds();
+        when(orderService.findExistingOrderIds(any())).thenReturn(Set.of());
+        when(orderService.createWithId(eq(101L), eq(1L), anyList()))
+                .thenThrow(new IllegalArgumentException("주문 가격은 0보다 커야 합니다."));
+
+        // when
+        List<OrderIntakeState> states = orderIntakeFacade.createAll(List.of(m));
+
+        // then
+        assertEquals(OrderIntakeStatus.FAILED, states.get(0).getStatus());
+        verify(productStockReservation).release(101L);
+    }
+
+    @Test
+    void 재전달된_요청은_처음_정한_주문_ID를_다시_쓰고_이미_저장된_주문은_다시_만들지_않는다() {
+        // given
+        OrderRequestedMessage committed = message("t-1", 1L, new OrderRequestedMessage.Item(10L, 1));
+        OrderRequestedMessage rolledBack = message("t-2", 1L, new OrderRequestedMessage.Item(10L, 1));
+        when(userPointService.findExistingUserIds(any())).thenReturn(Set.of(1L));
+        when(productService.findSnapshot(any())).thenReturn(snapshot(product(10L, 5000, 100)));
+        when(orderService.nextOrderId()).thenReturn(901L, 902L);
+        // 이전 전달에서 정해 둔 주문 ID가 남아 있다. t-1은 커밋됐고 t-2는 롤백됐다.
+        when(orderIntakeStatusStore.assignOrderIds(any())).thenReturn(Map.of("t-1", 101L, "t-2", 102L));
+        when(orderService.findExistingOrderIds(any())).thenReturn(Set.of(101L));
+
+        // when
+        List<OrderIntakeState> states = orderIntakeFacade.createAll(List.of(committed, rolledBack));
+
+        // then
+        assertEquals(OrderIntakeStatus.CREATED, states.get(0).getStatus());
+        assertEquals(101L, states.get(0).getOrderId());
+        assertEquals(102L, states.get(1).getOrderId());
+        verify(productStockReservation, never()).reserve(eq(101L), any());
+        verify(productStockReservation).reserve(102L, Map.of(10L, 1));
+        verify(orderService, never()).createWithId(eq(101L), anyLong(), anyList());
+        verify(orderService).createWithId(eq(102L), eq(1L), anyList());
+    }
+
+    @Test
+    void 접수_내역이_없으면_IllegalArgumentException_발생() {
+        // given
+        when(orderIntakeStatusStore.find("missing")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> orderIntakeFacade.getStatus("missing"));
+    }
+
+    // 처음 전달된 요청이라 넘긴 주문 ID가 그대로 정해진다.
+    private void assignCandidateIds() {
+        when(orderIntakeStatusStore.assignOrderIds(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private OrderRequestedMessage message(String trackingId, Long userId, OrderRequestedMessage.Item... items) {
+        return new OrderRequestedMessage(trackingId, userId, List.of(items));
+    }
+
+    private ProductSnapshot snapshot(Product... products) {
+        return new ProductSnapshot(Arrays.stream(products)
+                .collect(Collectors.toMap(Product::getId, Function.identity())));
+    }
+
+    private Product product(Long id, int price, int stock) {
+        return new Product(id, "상품" + id, price, stock, 1L, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.domain.order.*;
+import kr.hhplus.be.server.domain.order.event.OrderCanceledEvent;
+import kr.hhplus.be.server.domain.order.event.OrderCreatedEvent;
+import kr.hhplus.be.server.domain.order.event.OrderEventPublisher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,6 +29,9 @@ class OrderServiceTest {
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
     @Test
     void 주문_생성_성공시_주문항목과_총합이_올바르게_계산되어_저장된다() {
         // given
@@ -51,6 +57,7 @@ class OrderServiceTest {
 
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(orderItemRepository, times(1)).saveAll(anyList());
+        verify(orderEventPublisher).publishOrderCreated(argThat((OrderCreatedEvent e) -> e.getOrder() == persisted));
     }
 
     @Test
@@ -131,6 +138,7 @@ class OrderServiceTest {
         verify(orderRepository).findByIdForUpdate(orderId);
         verify(orderRepository).save(order);
         verify(orderItemRepository).saveAll(order.getItems());
+        verify(orderEventPublisher).publishOrderCanceled(any(OrderCanceledEvent.class));
     }
 
     @Test
@@ -186,4 +194,20 @@ class OrderServiceTest {
         );
         assertEquals("해당 유저가 없거나 주문 목록이 없습니다.", ex.getMessage());
     }
+
+    @Test
+    void 오래된_주문_취소는_아직_PENDING인_주문만_취소한다() {
+        // given
+        Order pending = Order.builder().id(1L).userId(1L).totalAmount(10000).status(OrderStatus.PENDING).build();
+        when(orderRepository.findAllByIdInAndStatusForUpdate(List.of(1L, 2L), OrderStatus.PENDING))
+                .thenReturn(List.of(pending));
+
+        // when
+        List<Long> canceled = orderService.cancelPendingOrders(List.of(1L, 2L));
+
+        // then
+        assertEquals(List.of(1L), canceled);
+        assertEquals(OrderStatus.CANCEL, pending.getStatus());
+        verify(orderEventPublisher).publishOrderCanceled(argThat((OrderCanceledEvent e) -> e.getOrderIds().equals(List.of(1L))));
+    }
 }
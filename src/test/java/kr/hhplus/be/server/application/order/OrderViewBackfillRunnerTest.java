@@ -0,0 +1,71 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockExecutor;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.OrderViewBackfillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewBackfillRunnerTest {
+
+    @Mock
+    private OrderViewBackfillRepository orderViewBackfillRepository;
+
+    @Mock
+    private LockService lockService;
+
+    private OrderViewBackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new OrderViewBackfillRunner(orderViewBackfillRepository, lockService, 2, 3600);
+    }
+
+    @Test
+    void 지난번에_마친_주문_뒤부터_채우고_구간마다_마친_지점을_남긴다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((LockExecutor<?>) invocation.getArgument(4)).execute());
+        when(orderViewBackfillRepository.findBackfilledUntil()).thenReturn(10L);
+        when(orderViewBackfillRepository.findOrderIdsAfter(10L, 2)).thenReturn(List.of(11L, 12L));
+        when(orderViewBackfillRepository.findOrderIdsAfter(12L, 2)).thenReturn(List.of(13L));
+
+        // when
+        runner.run(null);
+
+        // then
+        InOrder inOrder = inOrder(orderViewBackfillRepository);
+        inOrder.verify(orderViewBackfillRepository).backfill(10L, 12L);
+        inOrder.verify(orderViewBackfillRepository).saveBackfilledUntil(12L);
+        inOrder.verify(orderViewBackfillRepository).backfill(12L, 13L);
+        inOrder.verify(orderViewBackfillRepository).saveBackfilledUntil(13L);
+        verify(orderViewBackfillRepository, never()).findOrderIdsAfter(13L, 2);
+    }
+
+    @Test
+    void 다른_노드가_백필_중이면_건너뛴다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenThrow(new LockAcquisitionException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        runner.run(null);
+
+        // then
+        verifyNoInteractions(orderViewBackfillRepository);
+    }
+}
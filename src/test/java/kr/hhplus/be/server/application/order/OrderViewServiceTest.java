@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewServiceTest {
+
+    @InjectMocks
+    private OrderViewService orderViewService;
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Test
+    void 주문이_생성되면_항목까지_한_행으로_저장한다() {
+        // given
+        Order order = order(3L, 1L);
+        order.addLine(10L, 2, 5000);
+        order.addLine(20L, 1, 3000);
+
+        // when
+        orderViewService.created(order);
+
+        // then
+        verify(orderViewRepository).save(argThat(view -> view.getOrderId().equals(3L)
+                && view.isNew()
+                && view.getStatus() == OrderStatus.PENDING
+                && view.getTotalAmount() == 13000
+                && view.getItems().size() == 2
+                && view.getItems().get(0).getProductId().equals(10L)));
+    }
+
+    @Test
+    void 주문_이력은_한_건_더_읽어_다음_커서를_정한다() {
+        // given
+        Long userId = 1L;
+        OrderView v3 = OrderView.from(order(3L, userId));
+        OrderView v2 = OrderView.from(order(2L, userId));
+        OrderView v1 = OrderView.from(order(1L, userId));
+        when(orderViewRepository.findPageByUserId(eq(userId), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(v3, v2, v1));
+
+        // when
+        OrderViewPage page = orderViewService.getHistory(userId, null, 2);
+
+        // then
+        assertEquals(List.of(v3, v2), page.getViews());
+        assertEquals(2L, page.getNextCursor());
+    }
+
+    @Test
+    void 주문_이력의_마지막_페이지는_다음_커서가_없다() {
+        // given
+        Long userId = 1L;
+        OrderView v1 = OrderView.from(order(1L, userId));
+        when(orderViewRepository.findPageByUserId(eq(userId), eq(2L), any())).thenReturn(List.of(v1));
+
+        // when
+        OrderViewPage page = orderViewService.getHistory(userId, 2L, 2);
+
+        // then
+        assertEquals(1, page.getViews().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void 첫_페이지가_비어_있으면_IllegalArgumentException_발생() {
+        // given
+        when(orderViewRepository.findPageByUserId(eq(2L), eq(Long.MAX_VALUE), any())).thenReturn(List.of());
+
+        // when & then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> orderViewService.getHistory(2L, null, 20));
+        assertEquals("해당 유저가 없거나 주문 목록이 없습니다.", ex.getMessage());
+    }
+
+    @Test
+    void 주문_이력_조회_크기가_범위를_벗어나면_IllegalArgumentException_발생() {
+        assertThrows(IllegalArgumentException.class,
+                () -> orderViewService.getHistory(1L, null, OrderViewService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void 결제_반영은_PENDING_행만_바꾸고_이미_반영됐으면_false를_돌려준다() {
+        // given
+        LocalDateTime paidAt = LocalDateTime.now();
+        when(orderViewRepository.markPaid(1L, 9000, 7L, paidAt, OrderStatus.PENDING, OrderStatus.PAID))
+                .thenReturn(1, 0);
+
+        // when & then
+        assertTrue(orderViewService.paid(1L, 9000, 7L, paidAt));
+        assertFalse(orderViewService.paid(1L, 9000, 7L, paidAt));
+    }
+
+    private Order order(Long orderId, Long userId) {
+        return Order.builder().id(orderId).userId(userId).status(OrderStatus.PENDING)
+                .items(new ArrayList<>()).build();
+    }
+}
@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.redis.LockAcquisitionException;
+import kr.hhplus.be.server.application.redis.LockExecutor;
+import kr.hhplus.be.server.application.redis.LockService;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderService;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StaleOrderCancelSchedulerTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProductStockReservation productStockReservation;
+
+    @Mock
+    private LockService lockService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StaleOrderCancelScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new StaleOrderCancelScheduler(orderService, productStockReservation, lockService, meterRegistry,
+                30, 2, 100, 300);
+    }
+
+    @Test
+    void 오래된_PENDING_주문을_키셋_조각으로_취소하고_예약을_되돌린다() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Order o1 = order(1L, cutoff.minusHours(3));
+        Order o2 = order(2L, cutoff.minusHours(2));
+        Order o3 = order(3L, cutoff.minusHours(1));
+        when(orderService.getStalePendingOrders(cutoff, null, null, 2)).thenReturn(List.of(o1, o2));
+        when(orderService.getStalePendingOrders(cutoff, o2.getCreatedAt(), 2L, 2)).thenReturn(List.of(o3));
+        // 2번 주문은 조회 뒤 취소 전에 결제되어 빠진다.
+        when(orderService.cancelPendingOrders(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(orderService.cancelPendingOrders(List.of(3L))).thenReturn(List.of(3L));
+
+        // when
+        long canceled = scheduler.cancelStale(cutoff);
+
+        // then
+        assertEquals(2, canceled);
+        verify(productStockReservation).release(1L);
+        verify(productStockReservation).release(3L);
+        verify(productStockReservation, never()).release(2L);
+        assertEquals(2.0, meterRegistry.counter("order.auto-cancel.canceled").count());
+        assertEquals(1.0, meterRegistry.counter("order.auto-cancel.skipped").count());
+    }
+
+    @Test
+    void 한_번_실행에서는_최대_조각_수까지만_처리한다() {
+        // given
+        scheduler = new StaleOrderCancelScheduler(orderService, productStockReservation, lockService, meterRegistry,
+                30, 1, 1, 300);
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Order o1 = order(1L, cutoff.minusHours(3));
+        when(orderService.getStalePendingOrders(cutoff, null, null, 1)).thenReturn(List.of(o1));
+        when(orderService.cancelPendingOrders(List.of(1L))).thenReturn(List.of(1L));
+
+        // when
+        scheduler.cancelStale(cutoff);
+
+        // then
+        verify(orderService, times(1)).getStalePendingOrders(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 잠금을_잡은_노드만_실행한다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((LockExecutor<?>) invocation.getArgument(4)).execute());
+        when(orderService.getStalePendingOrders(any(), isNull(), isNull(), eq(2))).thenReturn(List.of());
+
+        // when
+        scheduler.cancelStaleOrders();
+
+        // then
+        verify(orderService, never()).cancelPendingOrders(any());
+    }
+
+    @Test
+    void 다른_노드가_실행_중이면_이번_주기는_건너뛴다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenThrow(new LockAcquisitionException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        scheduler.cancelStaleOrders();
+
+        // then
+        verifyNoInteractions(orderService, productStockReservation);
+    }
+
+    @Test
+    void 작업_중_발생한_예외는_삼키지_않는다() {
+        // given
+        when(lockService.executeWithLock(anyString(), eq(0L), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((LockExecutor<?>) invocation.getArgument(4)).execute());
+        when(orderService.getStalePendingOrders(any(), isNull(), isNull(), eq(2)))
+                .thenThrow(new IllegalStateException("조회 실패"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> scheduler.cancelStaleOrders());
+    }
+
+    private Order order(Long id, LocalDateTime createdAt) {
+        return Order.builder().id(id).userId(1L).totalAmount(10000).status(OrderStatus.PENDING).createdAt(createdAt).build();
+    }
+}
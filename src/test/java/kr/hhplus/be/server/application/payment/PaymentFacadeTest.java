@@ -3,6 +3,7 @@ package kr.hhplus.be.server.application.payment;
 import kr.hhplus.be.server.domain.payment.event.PaymentCompletedProducer;
 import kr.hhplus.be.server.application.user.UserPointFacade;
 import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.WalletCoupon;
 import kr.hhplus.be.server.domain.coupon.event.CouponEventPublisher;
 import kr.hhplus.be.server.domain.coupon.event.CouponValidateEvent;
 import kr.hhplus.be.server.domain.order.Order;
@@ -14,6 +15,7 @@ import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import kr.hhplus.be.server.domain.point.event.PointEventPublisher;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
 import kr.hhplus.be.server.domain.user.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +24,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -54,6 +59,8 @@ class PaymentFacadeTest {
     private CouponEventPublisher couponEventPublisher;
     @Mock
     private PointEventPublisher pointEventPublisher;
+    @Mock
+    private ProductStockReservation productStockReservation;
 
     private final Long orderId = 1L;
     private final Long userId = 100L;
@@ -74,7 +81,7 @@ class PaymentFacadeTest {
     @Test
     void 결제_정상_쿠폰없음() {
         when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
-        when(couponService.getAvailableCouponId(order.getUserId())).thenReturn(null);
+        when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.empty());
         when(orderService.pay(orderId)).thenReturn(order);
 
         Payment mockPayment = Payment.create(orderId, totalAmount, null);
@@ -102,9 +109,9 @@ class PaymentFacadeTest {
         int discountedAmount = totalAmount - discount;
 
         when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
-        when(couponService.getAvailableCouponId(order.getUserId())).thenReturn(couponId);
-
-        when(couponService.calculateDiscountAmount(couponId, totalAmount)).thenReturn(discount);
+        // 할인율 10%, 최대 2,000원 → 30,000원 주문에서 2,000원 할인
+        WalletCoupon coupon = new WalletCoupon(couponId, 10, discount, LocalDateTime.now().plusDays(1));
+        when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.of(coupon));
 
         when(orderService.pay(orderId)).thenReturn(order);
 
@@ -124,7 +131,7 @@ class PaymentFacadeTest {
         verify(couponEventPublisher).publishCouponValidate(any(CouponValidateEvent.class));
         verify(paymentCompletedProducer).send(eq(mockPayment), eq(order));
         verify(orderService).pay(orderId);
-        verify(couponService).calculateDiscountAmount(couponId, totalAmount);
+        verify(couponService, never()).calculateDiscountAmount(any(), anyInt());
         verify(paymentService).create(orderId, discountedAmount, couponId);
     }
 
@@ -132,7 +139,7 @@ class PaymentFacadeTest {
 void 결제_실패_재고_부족() {
     // given
     when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
-    when(couponService.getAvailableCouponId(order.getUserId())).thenReturn(null);
+    when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.empty());
 
     Payment mockPayment = Payment.create(orderId, totalAmount, null);
     when(paymentService.create(orderId, totalAmount, null)).thenReturn(mockPayment);
@@ -143,23 +150,60 @@ void 결제_실패_재고_부족() {
             new OrderItem(order, productId, quantity, unitPrice)
     );
     when(orderService.getOrderItems(orderId)).thenReturn(dummyItems);
-    when(productService.decreaseStock(productId, quantity))
-            .thenThrow(new IllegalStateException("재고가 부족합니다."));
+    when(productStockReservation.claim(orderId)).thenReturn(true);
+    doThrow(new IllegalStateException("재고가 부족합니다."))
+            .when(productService).decreaseReservedStocks(Map.of(productId, quantity));
 
     // when & then
     IllegalStateException e = assertThrows(IllegalStateException.class,
             () -> paymentFacade.processPayment(orderId, totalAmount));
     assertEquals("재고가 부족합니다.", e.getMessage());
 
-    verify(productService).decreaseStock(productId, quantity);
+    verify(productService).decreaseReservedStocks(Map.of(productId, quantity));
+    verify(productService, never()).decreaseStock(anyLong(), anyInt());
     verify(paymentCompletedProducer, never()).send(any(), any());
 }
 
+    @Test
+    void 주문_예약이_만료됐으면_결제_시_다시_예약한다() {
+        // given
+        when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
+        when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.empty());
+        when(orderService.pay(orderId)).thenReturn(order);
+        when(orderService.getOrderItems(orderId)).thenReturn(List.of(new OrderItem(order, productId, quantity, unitPrice)));
+        when(productStockReservation.claim(orderId)).thenReturn(false, true);
+        when(paymentService.create(orderId, totalAmount, null)).thenReturn(Payment.create(orderId, totalAmount, null));
+
+        // when
+        paymentFacade.processPayment(orderId, totalAmount);
+
+        // then
+        verify(productStockReservation).reserve(orderId, Map.of(productId, quantity));
+        verify(productService).decreaseReservedStocks(Map.of(productId, quantity));
+    }
+
+    @Test
+    void 다시_잡은_예약을_가져오지_못하면_결제를_중단한다() {
+        // given
+        when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
+        when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.empty());
+        when(orderService.pay(orderId)).thenReturn(order);
+        when(orderService.getOrderItems(orderId)).thenReturn(List.of(new OrderItem(order, productId, quantity, unitPrice)));
+        when(productStockReservation.claim(orderId)).thenReturn(false, false);
+        when(paymentService.create(orderId, totalAmount, null)).thenReturn(Payment.create(orderId, totalAmount, null));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> paymentFacade.processPayment(orderId, totalAmount));
+
+        verify(productService, never()).decreaseReservedStocks(any());
+        verify(paymentCompletedProducer, never()).send(any(), any());
+    }
+
     @Test
     void 결제_실패_포인트부족_쿠폰없음() {
         // given
         when(orderService.getOrderOrThrowPaid(orderId)).thenReturn(order);
-        when(couponService.getAvailableCouponId(order.getUserId())).thenReturn(null);
+        when(couponService.getAvailableCoupon(order.getUserId())).thenReturn(Optional.empty());
 
         doAnswer(invocation -> {
             throw new IllegalStateException("포인트 부족");
@@ -3,6 +3,8 @@ package kr.hhplus.be.server.application.product;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.product.ProductService;
+import kr.hhplus.be.server.domain.product.ProductSnapshot;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +33,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductStockReservation productStockReservation;
+
     @Test
     public void 재고_단순조회_정상_테스트() {
         // given
@@ -158,6 +164,7 @@ class ProductServiceTest {
         assertEquals(expectedStock, result.getStock());
         verify(productRepository, times(1)).findByIdForUpdate(productId);
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(productStockReservation).adjust(Map.of(productId, -purchaseQuantity));
     }
 
     @Test
@@ -180,6 +187,7 @@ class ProductServiceTest {
         assertEquals(expectedStock, result.getStock());
         verify(productRepository, times(1)).findByIdForUpdate(productId);
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(productStockReservation).adjust(Map.of(productId, restockQuantity));
     }
 
     @Test
@@ -209,4 +217,33 @@ class ProductServiceTest {
         verify(productRepository, never()).save(any(Product.class));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void 상품_스냅샷은_IN_조회_한번으로_읽는다() {
+        // given
+        Product p1 = new Product(1L, "상품1", 10000, 5, 1L, LocalDateTime.now(), LocalDateTime.now());
+        Product p2 = new Product(2L, "상품2", 20000, 0, 1L, LocalDateTime.now(), LocalDateTime.now());
+        when(productRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(p1, p2));
+
+        // when
+        ProductSnapshot snapshot = productService.getSnapshot(List.of(1L, 2L, 1L));
+
+        // then
+        assertEquals(20000, snapshot.priceOf(2L));
+        assertThrows(IllegalStateException.class, () -> snapshot.checkStock(2L, 1));
+        verify(productRepository, times(1)).findAllByIdIn(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    public void 상품_스냅샷에_없는_상품이_있으면_예외가_발생한다() {
+        // given
+        Product p1 = new Product(1L, "상품1", 10000, 5, 1L, LocalDateTime.now(), LocalDateTime.now());
+        when(productRepository.findAllByIdIn(List.of(1L, 99L))).thenReturn(List.of(p1));
+
+        // when & then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> productService.getSnapshot(List.of(1L, 99L)));
+        assertEquals("상품을 찾을 수 없습니다. productId=99", e.getMessage());
+    }
+}
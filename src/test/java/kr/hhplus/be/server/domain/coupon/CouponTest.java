@@ -69,6 +69,19 @@ class CouponTest {
         assertEquals(3000, discount);
     }
 
+    @Test
+    void 쿠폰_정책_스냅샷_지갑_항목의_할인_금액이_같다() {
+        Coupon coupon = Coupon.create("테스트 쿠폰", 30, 5000, LocalDateTime.now().plusDays(7), 100);
+        CouponPolicy policy = CouponPolicy.from(coupon);
+        WalletCoupon wallet = new WalletCoupon(1L, 30, 5000, coupon.getExpirationAt());
+
+        for (int orderAmount : new int[]{0, 9999, 10000, 16667, 20000}) {
+            int expected = coupon.calculateDiscountAmount(orderAmount);
+            assertEquals(expected, policy.calculateDiscountAmount(orderAmount));
+            assertEquals(expected, wallet.calculateDiscountAmount(orderAmount));
+        }
+    }
+
     @Test
     void 쿠폰_만료_테스트() {
         Coupon coupon = Coupon.create("테스트 쿠폰", 20, 2000, LocalDateTime.now().minusDays(1), 100);
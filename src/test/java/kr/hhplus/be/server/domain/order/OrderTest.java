@@ -70,4 +70,14 @@ class OrderTest {
         order.updateItems(newItems);
         assertEquals(2*1500 + 1*2000, order.getTotalAmount());
     }
-}
\ No newline at end of file
+
+    @Test
+    void withId_미리_정한_ID로_만든_주문은_저장_전까지_새_주문이다() {
+        Order order = Order.withId(100L, 1L);
+        assertEquals(100L, order.getId());
+        assertTrue(order.isNew());
+
+        order.markPersisted();
+        assertFalse(order.isNew());
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.infrastructure.config.jpa;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TsidGeneratorTest {
+
+    @Test
+    void 같은_밀리초에_순번을_넘겨도_ID는_계속_증가한다() {
+        // given
+        Clock fixed = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+        TsidGenerator generator = new TsidGenerator(7, fixed);
+
+        // when & then
+        long previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            long current = generator.next();
+            assertTrue(current > previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void 시계가_뒤로_가도_ID는_줄어들지_않는다() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-01T00:00:01Z").toEpochMilli());
+        TsidGenerator generator = new TsidGenerator(7, clock);
+        long before = generator.next();
+
+        // when
+        clock.millis -= 1000;
+        long after = generator.next();
+
+        // then
+        assertTrue(after > before);
+    }
+
+    @Test
+    void 노드_번호가_ID에_들어가_노드끼리_겹치지_않는다() {
+        // given
+        Clock fixed = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+        // when
+        long node1 = new TsidGenerator(1, fixed).next();
+        long node2 = new TsidGenerator(2, fixed).next();
+
+        // then
+        assertNotEquals(node1, node2);
+        assertEquals(1, (node1 >> TsidGenerator.SEQUENCE_BITS) & TsidGenerator.MAX_NODE);
+        assertEquals(2, (node2 >> TsidGenerator.SEQUENCE_BITS) & TsidGenerator.MAX_NODE);
+    }
+
+    @Test
+    void 노드_번호가_범위를_벗어나면_IllegalArgumentException_발생() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TsidGenerator(TsidGenerator.MAX_NODE + 1, Clock.systemUTC()));
+    }
+
+    @Test
+    void 이전_IDENTITY_ID는_TSID와_겹치지_않는_구간에_있다() {
+        // IDENTITY 값은 이 한계에 닿을 수 없고, 기준 시각 첫날 이후 만든 TSID는 모두 한계 이상이다.
+        assertTrue(TsidGenerator.LEGACY_ID_LIMIT > Integer.MAX_VALUE * 1000L);
+        assertEquals(TsidGenerator.LEGACY_ID_LIMIT, TsidGenerator.lowerBound(Instant.parse("2025-01-02T00:00:00Z")));
+    }
+
+    @Test
+    void 시각_이후에_만든_ID는_모두_그_시각의_하한_이상이다() {
+        // given
+        Instant monthStart = Instant.parse("2026-10-01T00:00:00Z");
+        long bound = TsidGenerator.lowerBound(monthStart);
+
+        // when
+        long before = new TsidGenerator(TsidGenerator.MAX_NODE, new MutableClock(monthStart.toEpochMilli() - 1)).next();
+        long at = new TsidGenerator(0, new MutableClock(monthStart.toEpochMilli())).next();
+
+        // then
+        assertTrue(before < bound);
+        assertEquals(bound, at);
+        assertEquals(0, TsidGenerator.lowerBound(Instant.parse("2024-12-31T00:00:00Z")));
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.infrastructure.config.jpa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TsidNodeVerifierTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("tsid.node");
+    }
+
+    @Test
+    void 운영_프로필에서_노드_번호가_없으면_기동을_멈춘다() {
+        assumeTrue(System.getenv("TSID_NODE") == null);
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        assertThrows(IllegalStateException.class, () -> new TsidNodeVerifier(environment));
+    }
+
+    @Test
+    void 운영_프로필이라도_노드_번호를_지정하면_통과한다() {
+        System.setProperty("tsid.node", "3");
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        assertDoesNotThrow(() -> new TsidNodeVerifier(environment));
+    }
+
+    @Test
+    void 로컬과_테스트_프로필은_호스트_이름_해시로_대신한다() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("local");
+
+        assertDoesNotThrow(() -> new TsidNodeVerifier(environment));
+    }
+}
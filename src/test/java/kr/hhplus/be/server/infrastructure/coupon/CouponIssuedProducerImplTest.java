@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssuedProducerImplTest {
+
+    @Mock
+    private KafkaTemplate<String, CouponIssuedMessage> kafkaTemplate;
+
+    @InjectMocks
+    private CouponIssuedProducerImpl producer;
+
+    @Test
+    void USER_모드는_userId를_메시지_키로_쓴다() {
+        // given
+        ReflectionTestUtils.setField(producer, "topic", "inside.coupon.v1.issued");
+        ReflectionTestUtils.setField(producer, "partitionKey", CouponIssuedProducerImpl.PartitionKey.USER);
+        CouponIssuedMessage message = new CouponIssuedMessage(1L, 42L);
+
+        // when
+        producer.send(message);
+
+        // then
+        verify(kafkaTemplate).send("inside.coupon.v1.issued", "42", message);
+    }
+
+    @Test
+    void COUPON_모드는_couponId를_메시지_키로_쓴다() {
+        // given
+        ReflectionTestUtils.setField(producer, "topic", "inside.coupon.v1.issued");
+        ReflectionTestUtils.setField(producer, "partitionKey", CouponIssuedProducerImpl.PartitionKey.COUPON);
+        CouponIssuedMessage message = new CouponIssuedMessage(1L, 42L);
+
+        // when
+        producer.send(message);
+
+        // then
+        verify(kafkaTemplate).send("inside.coupon.v1.issued", "1", message);
+    }
+}
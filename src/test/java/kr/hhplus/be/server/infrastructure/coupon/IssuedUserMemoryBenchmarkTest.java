@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급 이력 Set과 비트맵의 Redis 메모리 사용량 비교.
+ * COUPON_BENCHMARK=true ./gradlew test --tests "*IssuedUserMemoryBenchmarkTest"
+ */
+@EnabledIfEnvironmentVariable(named = "COUPON_BENCHMARK", matches = "true")
+class IssuedUserMemoryBenchmarkTest {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String SET_KEY = "benchmark:issued_users:set";
+    private static final String BITMAP_KEY = "benchmark:issued_users:bitmap";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        redisTemplate.delete(List.of(SET_KEY, BITMAP_KEY));
+        connectionFactory.destroy();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 10_000_000})
+    void 발급_이력_표현별_메모리_사용량_비교(int userCount) {
+        redisTemplate.delete(List.of(SET_KEY, BITMAP_KEY));
+
+        fillSet(userCount);
+        fillBitmap(userCount);
+
+        long setBytes = memoryUsage(SET_KEY);
+        long bitmapBytes = memoryUsage(BITMAP_KEY);
+
+        System.out.printf("[issued_users] users=%,d  SET=%,d bytes (%.1f MB)  BITMAP=%,d bytes (%.1f MB)  ratio=%.1fx%n",
+                userCount, setBytes, setBytes / 1024.0 / 1024.0, bitmapBytes, bitmapBytes / 1024.0 / 1024.0,
+                (double) setBytes / bitmapBytes);
+
+        assertThat(bitmapBytes).isLessThan(setBytes);
+    }
+
+    private void fillSet(int userCount) {
+        byte[] key = SET_KEY.getBytes(StandardCharsets.UTF_8);
+        for (int from = 1; from <= userCount; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE - 1, userCount);
+            byte[][] members = new byte[to - from + 1][];
+            for (int userId = from; userId <= to; userId++) {
+                members[userId - from] = String.valueOf(userId).getBytes(StandardCharsets.UTF_8);
+            }
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands().sAdd(key, members));
+        }
+    }
+
+    private void fillBitmap(int userCount) {
+        byte[] key = BITMAP_KEY.getBytes(StandardCharsets.UTF_8);
+        for (int from = 1; from <= userCount; from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + BATCH_SIZE - 1, userCount);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long userId = start; userId <= end; userId++) {
+                    connection.stringCommands().setBit(key, userId, true);
+                }
+                return null;
+            });
+        }
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                "MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8),
+                "SAMPLES".getBytes(StandardCharsets.UTF_8),
+                "0".getBytes(StandardCharsets.UTF_8)
+        ));
+        return ((Number) usage).longValue();
+    }
+}
@@ -1,13 +1,21 @@
 package kr.hhplus.be.server.infrastructure.coupon;
 
 import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
 import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
+import kr.hhplus.be.server.domain.coupon.IssuedUserTracking;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -17,9 +25,15 @@ class RedisCouponInventoryReaderTest {
     @Autowired
     private CouponService couponService;
 
+    @Autowired
+    private CouponInventoryReader couponInventoryReader;
+
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private CouponInventoryKeyMigration couponInventoryKeyMigration;
+
     @Test
     void 쿠폰_만료_시간이_지나면_인벤토리가_자동으로_삭제되고_발급시_예외가_발생한다() throws InterruptedException {
         // given
@@ -31,12 +45,12 @@ class RedisCouponInventoryReaderTest {
 
         // when
         Coupon coupon = couponService.create(name, discountRate, maxDiscountAmount, expirationAt, limitCount);
-        String inventoryKey = String.format("coupon:%d:inventory", coupon.getId());
+        String inventoryKey = String.format("coupon:{%d}:inventory", coupon.getId());
 
         // then
         // 초기화 직후에는 발급 가능
         assertThat(redisTemplate.hasKey(inventoryKey)).isTrue();
-        assertThat(redisTemplate.opsForList().size(inventoryKey)).isEqualTo(limitCount);
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(limitCount);
         assertThat(couponService.issue(1L, coupon.getId())).isNotNull();
 
         // 3초 대기 (만료 시간 이후)
@@ -50,4 +64,150 @@ class RedisCouponInventoryReaderTest {
                 () -> couponService.issue(1L, coupon.getId()));
         assertThat(exception.getMessage()).isEqualTo("발급이 종료된 쿠폰입니다.");
     }
+
+    @Test
+    void 이미_발급받은_사용자가_다시_요청하면_중복_예외가_발생하고_재고는_차감되지_않는다() {
+        // given
+        Coupon coupon = couponService.create("중복 테스트 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 5);
+        couponService.issue(1L, coupon.getId());
+
+        // when & then
+        assertThrows(DuplicateCouponIssueException.class, () -> couponService.issue(1L, coupon.getId()));
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(4);
+    }
+
+    @Test
+    void 재고가_모두_소진되면_매진_예외가_발생한다() {
+        // given
+        Coupon coupon = couponService.create("매진 테스트 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 1);
+        couponService.issue(1L, coupon.getId());
+
+        // when & then
+        CouponSoldOutException exception = assertThrows(CouponSoldOutException.class,
+                () -> couponService.issue(2L, coupon.getId()));
+        assertThat(exception.getMessage()).isEqualTo("재고가 소진되었습니다.");
+    }
+
+    @Test
+    void 카운터_재고는_수량과_무관하게_단일_키로_초기화되고_복구시_다시_증가한다() {
+        // given
+        Coupon coupon = couponService.create("대량 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 1_000_000);
+        String inventoryKey = String.format("coupon:{%d}:inventory", coupon.getId());
+
+        // when
+        couponInventoryReader.issue(coupon.getId(), 1L);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(inventoryKey)).isEqualTo("999999");
+
+        couponInventoryReader.release(coupon.getId(), 1L);
+        couponInventoryReader.release(coupon.getId(), 1L);
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void 비트맵_발급_이력은_userId_오프셋으로_중복을_막고_복구시_비트를_해제한다() {
+        // given
+        Coupon coupon = couponService.create("비트맵 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 10,
+                IssuedUserTracking.BITMAP);
+        String issuedUsersKey = String.format("coupon:{%d}:issued_users", coupon.getId());
+
+        // when
+        couponInventoryReader.issue(coupon.getId(), 42L);
+
+        // then
+        assertThat(redisTemplate.opsForValue().getBit(issuedUsersKey, 42L)).isTrue();
+        assertThrows(DuplicateCouponIssueException.class, () -> couponInventoryReader.issue(coupon.getId(), 42L));
+
+        couponInventoryReader.release(coupon.getId(), 42L);
+        assertThat(redisTemplate.opsForValue().getBit(issuedUsersKey, 42L)).isFalse();
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(10);
+    }
+
+    @Test
+    void 배치_발급은_요청_순서대로_한번에_판정한다() {
+        // given
+        Coupon coupon = couponService.create("배치 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 2);
+        Long couponId = coupon.getId();
+
+        // when
+        List<CouponIssueResult> results = couponInventoryReader.issueAll(List.of(
+                new CouponIssuedMessage(couponId, 1L),
+                new CouponIssuedMessage(couponId, 1L),
+                new CouponIssuedMessage(couponId, 2L),
+                new CouponIssuedMessage(couponId, 3L)
+        ));
+
+        // then
+        assertThat(results).isEqualTo(List.of(
+                CouponIssueResult.ISSUED, CouponIssueResult.DUPLICATE, CouponIssueResult.ISSUED, CouponIssueResult.SOLD_OUT));
+        assertThat(couponInventoryReader.remaining(couponId)).isEqualTo(0);
+    }
+
+    @Test
+    void 여러_쿠폰이_섞인_배치는_쿠폰별로_나눠_판정해도_요청_순서대로_결과를_돌려준다() {
+        // given
+        Long first = couponService.create("배치 쿠폰1", 10, 1000, LocalDateTime.now().plusMinutes(10), 1).getId();
+        Long second = couponService.create("배치 쿠폰2", 10, 1000, LocalDateTime.now().plusMinutes(10), 2).getId();
+
+        // when
+        List<CouponIssueResult> results = couponInventoryReader.issueAll(List.of(
+                new CouponIssuedMessage(first, 1L),
+                new CouponIssuedMessage(second, 1L),
+                new CouponIssuedMessage(first, 2L),
+                new CouponIssuedMessage(second, 1L)
+        ));
+
+        // then
+        assertThat(results).isEqualTo(List.of(
+                CouponIssueResult.ISSUED, CouponIssueResult.ISSUED, CouponIssueResult.SOLD_OUT, CouponIssueResult.DUPLICATE));
+        assertThat(couponInventoryReader.remaining(second)).isEqualTo(1);
+    }
+
+    @Test
+    void 해시_태그가_없는_옛_재고_키는_새_키로_옮겨져_발급이_이어진다() {
+        // given
+        Coupon coupon = couponService.create("옛 키 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 3);
+        Long couponId = coupon.getId();
+        couponInventoryReader.issue(couponId, 1L);
+        for (String suffix : List.of("inventory", "issued_users", "meta")) {
+            redisTemplate.rename(String.format("coupon:{%d}:%s", couponId, suffix), String.format("coupon:%d:%s", couponId, suffix));
+        }
+
+        // when
+        couponInventoryKeyMigration.afterSingletonsInstantiated();
+
+        // then
+        assertThat(redisTemplate.hasKey(String.format("coupon:%d:inventory", couponId))).isFalse();
+        assertThat(couponInventoryReader.remaining(couponId)).isEqualTo(2);
+        assertThrows(DuplicateCouponIssueException.class, () -> couponInventoryReader.issue(couponId, 1L));
+    }
+
+    @Test
+    void 발급_한도는_발급과_수량_동기화와_관계없이_생성_시_수량을_유지한다() {
+        // given
+        Coupon coupon = couponService.create("한도 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 3);
+        couponInventoryReader.issue(coupon.getId(), 1L);
+
+        // when
+        int limit = couponInventoryReader.issueLimit(coupon.getId());
+
+        // then
+        assertThat(limit).isEqualTo(3);
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void 여러_쿠폰의_잔여_수량을_한번에_조회한다() {
+        // given
+        Coupon first = couponService.create("잔여 조회 쿠폰1", 10, 1000, LocalDateTime.now().plusMinutes(10), 3);
+        Coupon second = couponService.create("잔여 조회 쿠폰2", 10, 1000, LocalDateTime.now().plusMinutes(10), 5);
+        couponInventoryReader.issue(first.getId(), 1L);
+
+        // when
+        Map<Long, Integer> remaining = couponInventoryReader.remainingAll(List.of(first.getId(), second.getId(), -1L));
+
+        // then
+        assertThat(remaining).isEqualTo(Map.of(first.getId(), 2, second.getId(), 5, -1L, 0));
+    }
 }
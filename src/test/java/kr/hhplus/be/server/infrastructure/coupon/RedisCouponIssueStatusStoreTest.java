@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponIssueStatusStore;
+import kr.hhplus.be.server.domain.coupon.event.CouponIssuedMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisCouponIssueStatusStoreTest {
+
+    @Autowired
+    private CouponIssueStatusStore couponIssueStatusStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("coupon:issue-status:1", "coupon:issue-status:2"));
+    }
+
+    @Test
+    void 발급_결과를_저장하고_TTL을_건다() {
+        // when
+        couponIssueStatusStore.save(10L, 1L, CouponIssueResult.SOLD_OUT);
+
+        // then
+        assertThat(couponIssueStatusStore.find(10L, 1L)).contains(CouponIssueResult.SOLD_OUT);
+        assertThat(couponIssueStatusStore.find(11L, 1L)).isEmpty();
+        assertThat(redisTemplate.getExpire("coupon:issue-status:1")).isPositive();
+    }
+
+    @Test
+    void 재전달로_판정된_중복은_기존_발급_결과를_덮어쓰지_않는다() {
+        // given
+        couponIssueStatusStore.save(10L, 1L, CouponIssueResult.ISSUED);
+
+        // when
+        couponIssueStatusStore.saveAll(
+                List.of(new CouponIssuedMessage(10L, 1L), new CouponIssuedMessage(10L, 2L)),
+                List.of(CouponIssueResult.DUPLICATE, CouponIssueResult.DUPLICATE));
+
+        // then
+        assertThat(couponIssueStatusStore.find(10L, 1L)).contains(CouponIssueResult.ISSUED);
+        assertThat(couponIssueStatusStore.find(10L, 2L)).contains(CouponIssueResult.DUPLICATE);
+    }
+}
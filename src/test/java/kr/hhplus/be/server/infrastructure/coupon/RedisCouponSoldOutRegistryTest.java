@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssuanceClosedException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCouponSoldOutRegistryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RedisCouponSoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RedisCouponSoldOutRegistry(redisTemplate, listenerContainer, 10);
+    }
+
+    @Test
+    void 매진으로_표시된_쿠폰은_Redis_조회없이_매진_예외가_발생한다() {
+        registry.markExhausted(1L, CouponIssueResult.SOLD_OUT);
+
+        assertThrows(CouponSoldOutException.class, () -> registry.checkIssuable(1L));
+        assertDoesNotThrow(() -> registry.checkIssuable(2L));
+    }
+
+    @Test
+    void 같은_상태를_여러번_표시해도_다른_노드에는_한번만_알린다() {
+        registry.markExhausted(1L, CouponIssueResult.SOLD_OUT);
+        registry.markExhausted(1L, CouponIssueResult.SOLD_OUT);
+
+        verify(redisTemplate, times(1)).convertAndSend(RedisCouponSoldOutRegistry.CHANNEL, "1:SOLD_OUT");
+    }
+
+    @Test
+    void 다른_노드의_알림을_받으면_로컬_상태에_반영한다() {
+        registry.onMessage(message("7:CLOSED"), null);
+        assertThrows(CouponIssuanceClosedException.class, () -> registry.checkIssuable(7L));
+
+        registry.onMessage(message("7:ISSUED"), null);
+        assertDoesNotThrow(() -> registry.checkIssuable(7L));
+    }
+
+    @Test
+    void 로컬_표시는_유효시간이_지나면_무시된다() {
+        RedisCouponSoldOutRegistry shortLived = new RedisCouponSoldOutRegistry(redisTemplate, listenerContainer, 0);
+        shortLived.onMessage(message("3:SOLD_OUT"), null);
+
+        assertDoesNotThrow(() -> shortLived.checkIssuable(3L));
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                RedisCouponSoldOutRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.Coupon;
+import kr.hhplus.be.server.domain.coupon.CouponInventoryReader;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponService;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutException;
+import kr.hhplus.be.server.domain.coupon.CouponSoldOutRegistry;
+import kr.hhplus.be.server.domain.coupon.DuplicateCouponIssueException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "coupon.inventory.shard-count=4")
+class ShardedCouponInventoryTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponInventoryReader couponInventoryReader;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ShardedCouponInventory shardedCouponInventory;
+
+    @Autowired
+    private CouponSoldOutRegistry couponSoldOutRegistry;
+
+    @Test
+    void 재고는_샤드에_나눠_저장되고_합계는_발급_수량과_같다() {
+        // given & when
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 10);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(String.format("coupon:{%d-0}:inventory", coupon.getId()))).isEqualTo("3");
+        assertThat(redisTemplate.opsForValue().get(String.format("coupon:{%d-3}:inventory", coupon.getId()))).isEqualTo("2");
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(10);
+    }
+
+    @Test
+    void 한_샤드로만_몰려도_다른_샤드_재고를_옮겨와_정확히_발급_수량만큼만_발급한다() {
+        // given: userId 4의 배수는 모두 0번 샤드로 배정된다.
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 10);
+
+        // when
+        for (long userId = 4; userId <= 40; userId += 4) {
+            couponInventoryReader.issue(coupon.getId(), userId);
+        }
+
+        // then
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isZero();
+        assertThrows(DuplicateCouponIssueException.class, () -> couponInventoryReader.issue(coupon.getId(), 4L));
+        assertThrows(CouponSoldOutException.class, () -> couponInventoryReader.issue(coupon.getId(), 44L));
+    }
+
+    @Test
+    void 복구하면_배정된_샤드로_재고가_돌아온다() {
+        // given
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 8);
+        couponInventoryReader.issue(coupon.getId(), 1L);
+
+        // when
+        couponInventoryReader.release(coupon.getId(), 1L);
+        couponInventoryReader.release(coupon.getId(), 1L);
+
+        // then
+        assertThat(couponInventoryReader.remaining(coupon.getId())).isEqualTo(8);
+        assertThat(couponInventoryReader.issue(coupon.getId(), 1L)).isTrue();
+    }
+
+    @Test
+    void 모든_샤드가_비었을_때만_매진을_알린다() {
+        // given
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 4);
+        for (long userId = 1; userId <= 4; userId++) {
+            couponInventoryReader.issue(coupon.getId(), userId);
+        }
+
+        // when & then
+        assertThrows(CouponSoldOutException.class, () -> couponInventoryReader.issue(coupon.getId(), 5L));
+        assertThat(couponSoldOutRegistry.status(coupon.getId())).isEqualTo(CouponIssueResult.SOLD_OUT);
+    }
+
+    @Test
+    void 옮기는_중인_재고가_있으면_매진을_알리지_않는다() {
+        // given: 모든 샤드 재고는 0이지만 1번 샤드에서 옮기는 중인 수량이 남아 있다.
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 4);
+        for (int shard = 0; shard < 4; shard++) {
+            redisTemplate.opsForValue().set(String.format("coupon:{%d-%d}:inventory", coupon.getId(), shard), "0");
+        }
+        redisTemplate.opsForValue().set(String.format("coupon:{%d-1}:moving", coupon.getId()), "1");
+
+        // when & then
+        assertThrows(CouponSoldOutException.class, () -> couponInventoryReader.issue(coupon.getId(), 4L));
+        assertThat(couponSoldOutRegistry.status(coupon.getId())).isEqualTo(CouponIssueResult.ISSUED);
+    }
+
+    @Test
+    void 받는_샤드에_반영하지_못한_재고는_내준_샤드로_되돌아가_합계가_유지된다() {
+        // given: 0번 샤드 재고 키가 사라져 옮겨 온 재고를 받을 수 없다.
+        Coupon coupon = couponService.create("샤드 쿠폰", 10, 1000, LocalDateTime.now().plusMinutes(10), 10);
+        redisTemplate.delete(String.format("coupon:{%d-0}:inventory", coupon.getId()));
+        int before = shardSum(coupon.getId());
+
+        // when
+        boolean moved = shardedCouponInventory.rebalance(coupon.getId(), 0, 4);
+
+        // then
+        assertThat(moved).isFalse();
+        assertThat(shardSum(coupon.getId())).isEqualTo(before).isEqualTo(7);
+        for (int shard = 1; shard < 4; shard++) {
+            String moving = redisTemplate.opsForValue().get(String.format("coupon:{%d-%d}:moving", coupon.getId(), shard));
+            assertThat(moving == null ? 0 : Integer.parseInt(moving)).isZero();
+        }
+    }
+
+    private int shardSum(Long couponId) {
+        int sum = 0;
+        for (int shard = 0; shard < 4; shard++) {
+            String value = redisTemplate.opsForValue().get(String.format("coupon:{%d-%d}:inventory", couponId, shard));
+            sum += value == null ? 0 : Integer.parseInt(value);
+        }
+        return sum;
+    }
+}
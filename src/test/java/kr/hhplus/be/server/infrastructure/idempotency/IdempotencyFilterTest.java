@@ -0,0 +1,221 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"userId\":1,\"items\":[{\"productId\":1,\"quantity\":1,\"itemPrice\":1000}]}";
+    private static final String KEY = "idempotency:POST:/orders:key-1";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyStore, new ObjectMapper(), Duration.ofSeconds(1), Duration.ofMillis(1));
+        executions = new AtomicInteger();
+        chain = (request, response) -> {
+            executions.incrementAndGet();
+            // 컨트롤러처럼 본문을 다시 읽을 수 있어야 한다.
+            assertEquals(BODY, new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(200);
+            http.setContentType("application/json");
+            http.getOutputStream().write("{\"id\":10}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void 헤더가_없으면_저장소를_거치지_않고_실행한다() throws Exception {
+        // given
+        MockHttpServletRequest request = orderRequest(null, BODY);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertEquals(1, executions.get());
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    void 처음_요청은_실행하고_응답을_저장한다() throws Exception {
+        // given
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), anyString())).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), response, chain);
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals("{\"id\":10}", response.getContentAsString());
+        verify(idempotencyStore).complete(eq(KEY), anyString(), argThat(record -> record.isCompleted()
+                && record.getStatus() == 200
+                && record.getBody().equals("{\"id\":10}")));
+        verify(idempotencyStore, never()).abandon(anyString(), anyString());
+    }
+
+    @Test
+    void 선점한_요청의_owner로만_결과를_저장한다() throws Exception {
+        // given
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), owner.capture())).thenReturn(true);
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), new MockHttpServletResponse(), chain);
+
+        // then
+        verify(idempotencyStore).complete(eq(KEY), eq(owner.getValue()), any());
+    }
+
+    @Test
+    void 끝난_요청의_재시도는_실행하지_않고_저장된_응답을_돌려준다() throws Exception {
+        // given
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), anyString())).thenReturn(false);
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.of(
+                IdempotencyRecord.completed(fingerprint(BODY), 200, "application/json", "{\"id\":10}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), response, chain);
+
+        // then
+        assertEquals(0, executions.get());
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"id\":10}", response.getContentAsString());
+        assertEquals("true", response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 처리_중인_요청의_재시도는_끝날_때까지_기다렸다가_같은_응답을_돌려준다() throws Exception {
+        // given
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), anyString())).thenReturn(false);
+        when(idempotencyStore.find(KEY)).thenReturn(
+                Optional.of(IdempotencyRecord.inProgress(fingerprint(BODY), "other")),
+                Optional.of(IdempotencyRecord.inProgress(fingerprint(BODY), "other")),
+                Optional.of(IdempotencyRecord.completed(fingerprint(BODY), 200, "application/json", "{\"id\":10}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), response, chain);
+
+        // then
+        assertEquals(0, executions.get());
+        assertEquals("{\"id\":10}", response.getContentAsString());
+        verify(idempotencyStore, times(3)).find(KEY);
+    }
+
+    @Test
+    void 같은_키로_다른_본문을_보내면_422를_반환한다() throws Exception {
+        // given
+        String otherBody = "{\"userId\":2}";
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(otherBody)), anyString())).thenReturn(false);
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.of(
+                IdempotencyRecord.completed(fingerprint(BODY), 200, "application/json", "{\"id\":10}")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(orderRequest("key-1", otherBody), response, chain);
+
+        // then
+        assertEquals(0, executions.get());
+        assertEquals(422, response.getStatus());
+        assertTrue(response.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void 서버_오류는_저장하지_않고_키를_풀어_재시도가_다시_실행되게_한다() throws Exception {
+        // given
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), anyString())).thenReturn(true);
+        FilterChain failing = (request, response) -> ((HttpServletResponse) response).setStatus(503);
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), new MockHttpServletResponse(), failing);
+
+        // then
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), any());
+        verify(idempotencyStore).abandon(eq(KEY), anyString());
+    }
+
+    @Test
+    void 비동기_읽기도_미리_읽어_둔_본문을_돌려준다() throws Exception {
+        // given
+        when(idempotencyStore.tryStart(eq(KEY), eq(fingerprint(BODY)), anyString())).thenReturn(true);
+        StringBuilder read = new StringBuilder();
+        FilterChain asyncReading = (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.append((char) in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    ((HttpServletResponse) response).setStatus(200);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(orderRequest("key-1", BODY), response, asyncReading);
+
+        // then
+        assertEquals(BODY, read.toString());
+        assertEquals(200, response.getStatus());
+    }
+
+    private MockHttpServletRequest orderRequest(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        if (idempotencyKey != null) {
+            request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private String fingerprint(String body) {
+        return DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.infrastructure.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisIdempotencyStoreTest {
+
+    private static final String KEY = "idempotency:POST:/orders:store-test";
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    void 선점한_요청은_결과를_저장한다() {
+        // given
+        idempotencyStore.tryStart(KEY, "fp", "a");
+
+        // when
+        boolean stored = idempotencyStore.complete(KEY, "a", IdempotencyRecord.completed("fp", 200, null, "{}"));
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(idempotencyStore.find(KEY)).hasValueSatisfying(record -> assertThat(record.isCompleted()).isTrue());
+    }
+
+    @Test
+    void 처리_중_표시가_만료돼_다른_요청이_이어받았으면_늦게_끝난_요청은_덮어쓰거나_지우지_않는다() {
+        // given
+        idempotencyStore.tryStart(KEY, "fp", "a");
+        redisTemplate.delete(KEY);  // A의 처리 중 TTL 만료
+        idempotencyStore.tryStart(KEY, "fp", "b");
+
+        // when
+        boolean stored = idempotencyStore.complete(KEY, "a", IdempotencyRecord.completed("fp", 200, null, "{}"));
+        boolean abandoned = idempotencyStore.abandon(KEY, "a");
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(abandoned).isFalse();
+        assertThat(idempotencyStore.find(KEY)).hasValueSatisfying(record -> {
+            assertThat(record.isCompleted()).isFalse();
+            assertThat(record.getOwner()).isEqualTo("b");
+        });
+    }
+
+    @Test
+    void 완료된_키는_실패한_요청이_지우지_않는다() {
+        // given
+        idempotencyStore.tryStart(KEY, "fp", "a");
+        idempotencyStore.complete(KEY, "a", IdempotencyRecord.completed("fp", 200, null, "{}"));
+
+        // when & then
+        assertThat(idempotencyStore.abandon(KEY, "a")).isFalse();
+        assertThat(idempotencyStore.find(KEY)).isPresent();
+    }
+}
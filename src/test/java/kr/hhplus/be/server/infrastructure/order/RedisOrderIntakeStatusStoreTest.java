@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatus;
+import kr.hhplus.be.server.domain.order.OrderIntakeStatusStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisOrderIntakeStatusStoreTest {
+
+    @Autowired
+    private OrderIntakeStatusStore orderIntakeStatusStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of("order:intake:t-1", "order:intake:t-2", "order:intake:t-3"));
+    }
+
+    @Test
+    void 처리_결과가_접수_상태를_덮어쓰고_TTL을_건다() {
+        // given
+        orderIntakeStatusStore.save(OrderIntakeState.accepted("t-1"));
+
+        // when
+        orderIntakeStatusStore.saveAll(List.of(
+                OrderIntakeState.created("t-1", 101L),
+                OrderIntakeState.failed("t-2", "상품 재고가 부족합니다. productId=10")));
+
+        // then
+        OrderIntakeState created = orderIntakeStatusStore.find("t-1").orElseThrow();
+        assertThat(created.getStatus()).isEqualTo(OrderIntakeStatus.CREATED);
+        assertThat(created.getOrderId()).isEqualTo(101L);
+        assertThat(orderIntakeStatusStore.find("t-2").orElseThrow().getReason())
+                .isEqualTo("상품 재고가 부족합니다. productId=10");
+        assertThat(orderIntakeStatusStore.find("t-3")).isEmpty();
+        assertThat(redisTemplate.getExpire("order:intake:t-1")).isPositive();
+    }
+
+    @Test
+    void 처리가_끝난_추적_ID만_골라낸다() {
+        // given
+        orderIntakeStatusStore.saveAll(List.of(
+                OrderIntakeState.accepted("t-1"),
+                OrderIntakeState.created("t-2", 101L)));
+
+        // when & then
+        assertThat(orderIntakeStatusStore.findCompleted(List.of("t-1", "t-2", "t-3"))).containsExactly("t-2");
+    }
+
+    @Test
+    void 주문_ID는_처음_정한_값을_유지하고_상태_조회에는_나오지_않는다() {
+        // given
+        orderIntakeStatusStore.save(OrderIntakeState.accepted("t-1"));
+        orderIntakeStatusStore.assignOrderIds(Map.of("t-1", 101L));
+
+        // when
+        Map<String, Long> assigned = orderIntakeStatusStore.assignOrderIds(Map.of("t-1", 202L, "t-2", 303L));
+
+        // then
+        assertThat(assigned).containsEntry("t-1", 101L).containsEntry("t-2", 303L);
+        assertThat(orderIntakeStatusStore.find("t-1").orElseThrow().getOrderId()).isNull();
+    }
+}
@@ -0,0 +1,196 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStockReservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class RedisProductStockReservationTest {
+
+    @Autowired
+    private ProductStockReservation productStockReservation;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product p1;
+    private Product p2;
+
+    @BeforeEach
+    void setUp() {
+        p1 = productRepository.save(new Product("상품1", 1000, 5, 1L));
+        p2 = productRepository.save(new Product("상품2", 2000, 1, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(stockKey(p1.getId()), stockKey(p2.getId()),
+                reservedKey(p1.getId()), reservedKey(p2.getId()),
+                "order:900001:stock-reservation", "order:900002:stock-reservation"));
+        redisTemplate.opsForZSet().remove("order:stock-reservation:expiry", "900001", "900002");
+        productRepository.deleteAll(List.of(p1, p2));
+    }
+
+    @Test
+    void 처음_예약하면_DB_재고로_초기화한_뒤_차감한다() {
+        // when
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2, p2.getId(), 1));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("3");
+        assertThat(redisTemplate.opsForValue().get(stockKey(p2.getId()))).isEqualTo("0");
+    }
+
+    @Test
+    void 한_상품이라도_부족하면_어느_상품도_차감하지_않는다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p2.getId(), 1));
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> productStockReservation.reserve(900002L, Map.of(p1.getId(), 1, p2.getId(), 1)));
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("5");
+    }
+
+    @Test
+    void 예약한_트랜잭션이_롤백되면_예약을_바로_되돌린다() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("5");
+        assertThat(redisTemplate.hasKey("order:900001:stock-reservation")).isFalse();
+    }
+
+    @Test
+    void 같은_주문_ID로_다시_예약해도_한_번만_차감한다() {
+        // when
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("3");
+    }
+
+    @Test
+    void 취소하면_한_번만_재고를_되돌린다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+
+        // when
+        productStockReservation.release(900001L);
+        productStockReservation.release(900001L);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("5");
+    }
+
+    @Test
+    void 결제가_가져간_예약은_만료_정리가_되돌리지_않는다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+        redisTemplate.opsForZSet().add("order:stock-reservation:expiry", "900001", 0);
+
+        // when
+        boolean claimed = productStockReservation.claim(900001L);
+        productStockReservation.releaseExpired(100);
+
+        // then
+        assertThat(claimed).isTrue();
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("3");
+        assertThat(productStockReservation.claim(900001L)).isFalse();
+    }
+
+    @Test
+    void 만료된_예약은_정리_작업이_되돌린다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+        redisTemplate.opsForZSet().add("order:stock-reservation:expiry", "900001", 0);
+
+        // when
+        int released = productStockReservation.releaseExpired(100);
+
+        // then
+        assertThat(released).isEqualTo(1);
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("5");
+        assertThat(productStockReservation.claim(900001L)).isFalse();
+    }
+
+    @Test
+    void 재고_키를_다시_채우면_열린_예약_수량을_DB_재고에서_뺀다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+        redisTemplate.delete(stockKey(p1.getId()));
+
+        // when
+        productStockReservation.reserve(900002L, Map.of(p1.getId(), 3));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("0");
+        assertThat(redisTemplate.opsForValue().get(reservedKey(p1.getId()))).isEqualTo("5");
+    }
+
+    @Test
+    void 결제가_커밋되면_예약_수량_합에서_빼고_장부를_지운다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+
+        // when
+        productStockReservation.claim(900001L);
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(reservedKey(p1.getId()))).isEqualTo("0");
+        assertThat(redisTemplate.hasKey("order:900001:stock-reservation")).isFalse();
+    }
+
+    @Test
+    void DB_재고_변경은_커밋된_뒤에만_Redis_재고에_반영한다() {
+        // given
+        productStockReservation.reserve(900001L, Map.of(p1.getId(), 2));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            productStockReservation.adjust(Map.of(p1.getId(), 10));
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> productStockReservation.adjust(Map.of(p1.getId(), 4)));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(stockKey(p1.getId()))).isEqualTo("7");
+    }
+
+    private String stockKey(Long productId) {
+        return "product:" + productId + ":stock";
+    }
+
+    private String reservedKey(Long productId) {
+        return "product:" + productId + ":reserved";
+    }
+}
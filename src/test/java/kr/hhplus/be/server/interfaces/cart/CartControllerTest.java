@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.interfaces.cart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.cart.CartFacade;
+import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.cart.CartItem;
+import kr.hhplus.be.server.domain.order.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CartController.class)
+class CartControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockitoBean private CartFacade cartFacade;
+
+    @Test
+    void 장바구니_추가_성공() throws Exception {
+        when(cartFacade.add(1L, 10L, 2)).thenReturn(new CartItem(10L, 5));
+
+        mockMvc.perform(post("/cart/{userId}/add", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartRequest.Add(10L, 2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(10L))
+                .andExpect(jsonPath("$.quantity").value(5));
+    }
+
+    @Test
+    void 장바구니_추가_수량이_0이면_400() throws Exception {
+        mockMvc.perform(post("/cart/{userId}/add", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartRequest.Add(10L, 0))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("VALIDATION_FAIL")));
+        verifyNoInteractions(cartFacade);
+    }
+
+    @Test
+    void 장바구니_조회_성공() throws Exception {
+        when(cartFacade.getCart(1L)).thenReturn(List.of(new CartItem(10L, 2), new CartItem(20L, 1)));
+
+        mockMvc.perform(get("/cart/{userId}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1L))
+                .andExpect(jsonPath("$.items[0].productId").value(10L))
+                .andExpect(jsonPath("$.items[1].quantity").value(1));
+    }
+
+    @Test
+    void 장바구니_수량_변경과_삭제() throws Exception {
+        when(cartFacade.update(1L, 10L, 4)).thenReturn(new CartItem(10L, 4));
+
+        mockMvc.perform(put("/cart/{userId}/items/{productId}", 1L, 10L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartRequest.Update(4))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity").value(4));
+
+        mockMvc.perform(delete("/cart/{userId}/items/{productId}", 1L, 10L))
+                .andExpect(status().isNoContent());
+        verify(cartFacade).remove(1L, 10L);
+    }
+
+    @Test
+    void 장바구니_주문_성공() throws Exception {
+        OrderResult.Create result = new OrderResult.Create(100L, 1L,
+                List.of(new OrderResult.Item(10L, 2, 5000)), 10000, OrderStatus.PENDING);
+        when(cartFacade.checkout(1L)).thenReturn(result);
+
+        mockMvc.perform(post("/cart/{userId}/checkout", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(100L))
+                .andExpect(jsonPath("$.totalAmount").value(10000))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void 빈_장바구니_주문은_400() throws Exception {
+        when(cartFacade.checkout(1L)).thenThrow(new IllegalArgumentException("장바구니가 비어 있습니다."));
+
+        mockMvc.perform(post("/cart/{userId}/checkout", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("장바구니가 비어 있습니다.")));
+    }
+}
@@ -2,10 +2,13 @@ package kr.hhplus.be.server.interfaces.coupon;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.application.coupon.CouponFacade;
-import kr.hhplus.be.server.domain.coupon.Coupon;
-import kr.hhplus.be.server.domain.coupon.CouponStatus;
+import kr.hhplus.be.server.application.coupon.CouponInfo;
+import kr.hhplus.be.server.domain.coupon.CouponIssueResult;
+import kr.hhplus.be.server.domain.coupon.CouponPolicy;
 import kr.hhplus.be.server.domain.coupon.UserCoupon;
 import kr.hhplus.be.server.domain.coupon.UserCouponStatus;
+import kr.hhplus.be.server.domain.coupon.WaitingStatus;
+import kr.hhplus.be.server.domain.coupon.WaitingTicket;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +19,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,6 +27,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -43,26 +48,42 @@ public class CouponControllerTest {
         // given
         Long couponId = 500L;
         LocalDateTime now = LocalDateTime.now();
-        Coupon coupon = new Coupon(
-                couponId,
-                "테스트 쿠폰",
-                20,
-                2000,
-                CouponStatus.ACTIVE,
-                now.plusDays(7),
-                now,
-                100,
-                0
-        );
-        when(couponFacade.getCouponOrThrow(eq(couponId))).thenReturn(coupon);
-        String expectedJson = objectMapper.writeValueAsString(coupon);
+        CouponPolicy policy = new CouponPolicy(couponId, "테스트 쿠폰", 20, 2000, now.plusDays(7), now);
+        when(couponFacade.getCoupon(eq(couponId))).thenReturn(new CouponInfo(policy, 150, 100));
 
         // when & then
         mockMvc.perform(get("/coupons")
                         .param("couponId", couponId.toString())
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(expectedJson));
+                .andExpect(jsonPath("$.id").value(500))
+                .andExpect(jsonPath("$.name").value("테스트 쿠폰"))
+                .andExpect(jsonPath("$.discountRate").value(20))
+                .andExpect(jsonPath("$.maxDiscountAmount").value(2000))
+                .andExpect(jsonPath("$.status").value("ACTIVE"))
+                .andExpect(jsonPath("$.limitCount").value(150))
+                .andExpect(jsonPath("$.issuedCount").value(50))
+                .andExpect(jsonPath("$.remainingCount").value(100))
+                .andExpect(jsonPath("$.expired").value(false));
+    }
+
+    @Test
+    void 매진된_쿠폰은_만료가_아니라_활성_상태에_잔여_수량_0으로_조회된다() throws Exception {
+        // given
+        Long couponId = 500L;
+        LocalDateTime now = LocalDateTime.now();
+        CouponPolicy policy = new CouponPolicy(couponId, "매진 쿠폰", 20, 2000, now.plusDays(7), now);
+        when(couponFacade.getCoupon(eq(couponId))).thenReturn(new CouponInfo(policy, 100, 0));
+
+        // when & then
+        mockMvc.perform(get("/coupons")
+                        .param("couponId", couponId.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACTIVE"))
+                .andExpect(jsonPath("$.limitCount").value(100))
+                .andExpect(jsonPath("$.issuedCount").value(100))
+                .andExpect(jsonPath("$.remainingCount").value(0));
     }
 
     @Test
@@ -107,4 +128,66 @@ public class CouponControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string(containsString(expectedMessage)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 대기열_진입시_토큰과_순번을_반환한다() throws Exception {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+        when(couponFacade.enterWaitingRoom(eq(couponId), eq(userId)))
+                .thenReturn(new WaitingTicket("token-1", WaitingStatus.WAITING, 42));
+
+        // when & then
+        mockMvc.perform(post("/coupons/{userId}/waiting", userId)
+                        .param("couponId", couponId.toString()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.token").value("token-1"))
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andExpect(jsonPath("$.position").value(42));
+    }
+
+    @Test
+    void 대기열_토큰이_다르면_400을_반환한다() throws Exception {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+        when(couponFacade.getWaitingTicket(eq(couponId), eq(userId), eq("wrong")))
+                .thenThrow(new IllegalArgumentException("유효하지 않은 대기열 토큰입니다."));
+
+        // when & then
+        mockMvc.perform(get("/coupons/{userId}/waiting", userId)
+                        .param("couponId", couponId.toString())
+                        .param("token", "wrong"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("유효하지 않은 대기열 토큰입니다.")));
+    }
+
+    @Test
+    void 비동기_발급_결과를_조회한다() throws Exception {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+        when(couponFacade.getIssueStatus(eq(couponId), eq(userId))).thenReturn(Optional.of(CouponIssueResult.SOLD_OUT));
+
+        // when & then
+        mockMvc.perform(get("/coupons/{userId}/issue-status", userId)
+                        .param("couponId", couponId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.couponId").value(500))
+                .andExpect(jsonPath("$.status").value("SOLD_OUT"));
+    }
+
+    @Test
+    void 비동기_발급_결과가_아직_없으면_PENDING을_반환한다() throws Exception {
+        // given
+        Long userId = 100L;
+        Long couponId = 500L;
+        when(couponFacade.getIssueStatus(eq(couponId), eq(userId))).thenReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/coupons/{userId}/issue-status", userId)
+                        .param("couponId", couponId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+}
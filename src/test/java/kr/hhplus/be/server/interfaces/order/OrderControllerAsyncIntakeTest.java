@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.interfaces.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.order.OrderFacade;
+import kr.hhplus.be.server.application.order.OrderIntakeFacade;
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
+import kr.hhplus.be.server.domain.product.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderController.class)
+@TestPropertySource(properties = "order.intake.async=true")
+class OrderControllerAsyncIntakeTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockitoBean private OrderFacade orderFacade;
+    @MockitoBean private OrderIntakeFacade orderIntakeFacade;
+    @MockitoBean private ProductService productService;
+
+    @Test
+    void 비동기_접수_모드면_주문을_만들지_않고_202와_추적_ID를_돌려준다() throws Exception {
+        // given
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderRequest.Item(101L, 2, 5000)));
+        when(orderIntakeFacade.accept(any())).thenReturn(OrderIntakeState.accepted("t-1"));
+
+        // when & then
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/orders/intake/t-1"))
+                .andExpect(jsonPath("$.trackingId").value("t-1"))
+                .andExpect(jsonPath("$.status").value("ACCEPTED"));
+        verify(orderIntakeFacade).accept(argThat(command -> command.getUserId().equals(1L)
+                && command.getItems().get(0).getQuantity() == 2));
+        verifyNoInteractions(orderFacade);
+    }
+
+    @Test
+    void 비동기_접수_모드에서도_요청_검증은_먼저_한다() throws Exception {
+        // given
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderRequest.Item(101L, 0, 5000)));
+
+        // when & then
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(orderIntakeFacade);
+    }
+}
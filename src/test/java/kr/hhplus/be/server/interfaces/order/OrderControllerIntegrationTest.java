@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderItemRepository;
+import kr.hhplus.be.server.domain.order.OrderLine;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.order.OrderService;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.user.User;
@@ -16,6 +18,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -32,6 +36,7 @@ class OrderControllerIntegrationTest {
     @Autowired private ProductRepository productRepository;
     @Autowired private OrderRepository orderRepository;
     @Autowired private OrderItemRepository orderItemRepository;
+    @Autowired private OrderService orderService;
 
     @Test
     void 주문_생성_성공() throws Exception {
@@ -69,7 +74,7 @@ class OrderControllerIntegrationTest {
 
         mockMvc.perform(patch("/orders/{orderId}/cancel", order.getId()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(order.getId()))
+                .andExpect(jsonPath("$.id").value(String.valueOf(order.getId())))
                 .andExpect(jsonPath("$.status").value("CANCEL"));
     }
 
@@ -78,16 +83,15 @@ class OrderControllerIntegrationTest {
         User user = userRepository.save(User.create("조회유저", 0));
         Product product = productRepository.save(new Product("상품", 10000, 10, 1L));
 
-        Order order = new Order(user.getId());
-        order.addLine(product.getId(), 2, 10000);
-        order = orderRepository.save(order);
-        orderItemRepository.saveAll(order.getItems());
+        // 이벤트로 읽기 모델까지 채우도록 서비스로 만든다.
+        orderService.create(user.getId(), List.of(new OrderLine(product.getId(), 2, 10000)));
 
         mockMvc.perform(get("/orders/{userId}", user.getId()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].userId").value(user.getId()))
-                .andExpect(jsonPath("$[0].items", hasSize(1)))
-                .andExpect(jsonPath("$[0].totalAmount").value(20000));
+                .andExpect(jsonPath("$.orders[0].userId").value(user.getId()))
+                .andExpect(jsonPath("$.orders[0].items", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].totalAmount").value(20000))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
@@ -2,7 +2,9 @@ package kr.hhplus.be.server.interfaces.order;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.application.order.OrderFacade;
+import kr.hhplus.be.server.application.order.OrderIntakeFacade;
 import kr.hhplus.be.server.application.order.OrderResult;
+import kr.hhplus.be.server.domain.order.OrderIntakeState;
 import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductService;
@@ -30,6 +32,7 @@ class OrderControllerTest {
     @Autowired private ObjectMapper objectMapper;
 
     @MockitoBean private OrderFacade orderFacade;
+    @MockitoBean private OrderIntakeFacade orderIntakeFacade;
     @MockitoBean private ProductService productService;
 
     @Test
@@ -48,7 +51,7 @@ class OrderControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.id").value("1"))
                 .andExpect(jsonPath("$.userId").value(userId))
                 .andExpect(jsonPath("$.items[0].productId").value(101L))
                 .andExpect(jsonPath("$.items[0].quantity").value(2))
@@ -57,24 +60,65 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    void 주문_접수_상태_조회_성공() throws Exception {
+        when(orderIntakeFacade.getStatus("t-1")).thenReturn(OrderIntakeState.created("t-1", 77L));
+
+        mockMvc.perform(get("/orders/intake/{trackingId}", "t-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trackingId").value("t-1"))
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.orderId").value("77"));
+    }
+
     @Test
     void 사용자_주문_조회_성공() throws Exception {
         Long userId = 1L;
-        OrderResult.Create result = new OrderResult.Create(
+        OrderResult.Summary result = new OrderResult.Summary(
                 1L,
                 userId,
                 List.of(new OrderResult.Item(101L, 1, 10000)),
                 10000,
-                OrderStatus.PENDING
+                OrderStatus.PENDING,
+                null,
+                null,
+                LocalDateTime.of(2025, 1, 1, 10, 0)
         );
 
-        when(orderFacade.getOrdersByUser(userId)).thenReturn(List.of(result));
+        when(orderFacade.getOrdersByUser(userId, null, 20)).thenReturn(new OrderResult.History(List.of(result), null));
 
         mockMvc.perform(get("/orders/{userId}", userId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].userId").value(userId))
-                .andExpect(jsonPath("$[0].totalAmount").value(10000));
+                .andExpect(jsonPath("$.orders[0].id").value("1"))
+                .andExpect(jsonPath("$.orders[0].userId").value(userId))
+                .andExpect(jsonPath("$.orders[0].totalAmount").value(10000))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 사용자_주문_조회는_커서와_다음_커서를_주고받는다() throws Exception {
+        Long userId = 1L;
+        OrderResult.Summary result = new OrderResult.Summary(
+                40L,
+                userId,
+                List.of(new OrderResult.Item(101L, 1, 10000)),
+                10000,
+                OrderStatus.PAID,
+                9000,
+                7L,
+                LocalDateTime.of(2025, 1, 1, 10, 0)
+        );
+
+        when(orderFacade.getOrdersByUser(userId, 41L, 1)).thenReturn(new OrderResult.History(List.of(result), 40L));
+
+        mockMvc.perform(get("/orders/{userId}", userId)
+                        .param("cursor", "41")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].id").value("40"))
+                .andExpect(jsonPath("$.orders[0].paidAmount").value(9000))
+                .andExpect(jsonPath("$.orders[0].couponId").value(7L))
+                .andExpect(jsonPath("$.nextCursor").value("40"));
     }
 
     @Test
@@ -93,7 +137,7 @@ class OrderControllerTest {
 
         mockMvc.perform(patch("/orders/{orderId}/cancel", orderId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(orderId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.status").value("CANCEL"));
     }
 
@@ -120,7 +164,7 @@ class OrderControllerTest {
     @Test
     void 사용자_주문조회_실패_유저없음() throws Exception {
         Long invalidUserId = 999L;
-        when(orderFacade.getOrdersByUser(invalidUserId))
+        when(orderFacade.getOrdersByUser(invalidUserId, null, 20))
                 .thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         mockMvc.perform(get("/orders/{userId}", invalidUserId))
@@ -167,7 +167,7 @@ class PaymentControllerIntegrationTest {
         // 환불 요청
         mockMvc.perform(patch("/payments/{paymentId}/refund", payment.getId()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(payment.getId()))
+                .andExpect(jsonPath("$.id").value(String.valueOf(payment.getId())))
                 .andExpect(jsonPath("$.status", is("REFUND")));
     }
 
@@ -54,8 +54,8 @@ class PaymentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.id").value("1"))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.amount").value(10000))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andExpect(jsonPath("$.couponId").isEmpty());
@@ -87,8 +87,8 @@ class PaymentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.id").value("1"))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.amount").value(finalPaymentAmount))
                 .andExpect(jsonPath("$.status").value("COMPLETED"))
                 .andExpect(jsonPath("$.couponId").value(couponId));
@@ -111,8 +111,8 @@ class PaymentControllerTest {
         // when & then
         mockMvc.perform(patch("/payments/{orderId}/refund", orderId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(refundPayment.getId()))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(refundPayment.getId())))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.amount").value(refundPayment.getAmount()))
                 .andExpect(jsonPath("$.status").value("REFUND"))
                 .andExpect(jsonPath("$.couponId").doesNotExist());
@@ -137,8 +137,8 @@ class PaymentControllerTest {
         mockMvc.perform(patch("/payments/{orderId}/refund", orderId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(refundPayment.getId()))
-                .andExpect(jsonPath("$.orderId").value(orderId))
+                .andExpect(jsonPath("$.id").value(String.valueOf(refundPayment.getId())))
+                .andExpect(jsonPath("$.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.amount").value(refundPayment.getAmount()))
                 .andExpect(jsonPath("$.status").value("REFUND"))
                 .andExpect(jsonPath("$.couponId").value(couponId));